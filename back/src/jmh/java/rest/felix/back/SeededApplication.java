@@ -0,0 +1,134 @@
+package rest.felix.back;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.entity.UserGroup;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.repository.GroupTodoStatsRepository;
+import rest.felix.back.user.entity.User;
+
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+  @Param({"10"})
+  public int userCount;
+
+  @Param({"10"})
+  public int groupCount;
+
+  @Param({"100", "1000"})
+  public int todosPerGroup;
+
+  public ConfigurableApplicationContext context;
+  public final List<Long> userIds = new ArrayList<>();
+  public final List<String> usernames = new ArrayList<>();
+  public final List<Long> groupIds = new ArrayList<>();
+  public final List<Long> todoIds = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context =
+        new SpringApplicationBuilder(BackApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("bench")
+            .run();
+
+    EntityManager em = context.getBean(EntityManager.class);
+    GroupTodoStatsRepository groupTodoStatsRepository =
+        context.getBean(GroupTodoStatsRepository.class);
+
+    transactionTemplate()
+        .executeWithoutResult(
+            status -> {
+              List<User> users = new ArrayList<>();
+              for (int idx = 0; idx < userCount; idx++) {
+                User user = new User();
+                user.setUsername(String.format("bench%d", idx));
+                user.setNickname(String.format("bench %d", idx));
+                user.setHashedPassword("hashedPassword");
+                em.persist(user);
+                users.add(user);
+                userIds.add(user.getId());
+                usernames.add(user.getUsername());
+              }
+
+              for (int groupIdx = 0; groupIdx < groupCount; groupIdx++) {
+                Group group = new Group();
+                group.setName(String.format("bench group %d", groupIdx));
+                group.setDescription("bench group description");
+                em.persist(group);
+                groupIds.add(group.getId());
+
+                for (int userIdx = 0; userIdx < users.size(); userIdx++) {
+                  UserGroup userGroup = new UserGroup();
+                  userGroup.setUser(users.get(userIdx));
+                  userGroup.setGroup(group);
+                  userGroup.setGroupRole(userIdx == 0 ? GroupRole.OWNER : GroupRole.MEMBER);
+                  em.persist(userGroup);
+                }
+
+                for (int todoIdx = 0; todoIdx < todosPerGroup; todoIdx++) {
+                  Todo todo = new Todo();
+                  todo.setAuthor(users.get(todoIdx % users.size()));
+                  todo.setGroup(group);
+                  todo.setTitle(String.format("todo %d", todoIdx));
+                  todo.setDescription(String.format("todo %d description", todoIdx));
+                  todo.setOrder(String.format("%08d", todoIdx));
+                  em.persist(todo);
+                  todoIds.add(todo.getId());
+                }
+
+                em.flush();
+                em.clear();
+                users.replaceAll(user -> em.getReference(User.class, user.getId()));
+
+                groupTodoStatsRepository.applyDelta(group.getId(), Map.of());
+              }
+            });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  public TransactionTemplate transactionTemplate() {
+    return new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+  }
+
+  public <T> T bean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  public long randomUserId() {
+    return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+  }
+
+  public String randomUsername() {
+    return usernames.get(ThreadLocalRandom.current().nextInt(usernames.size()));
+  }
+
+  public long randomGroupId() {
+    return groupIds.get(ThreadLocalRandom.current().nextInt(groupIds.size()));
+  }
+
+  public long randomTodoId() {
+    return todoIds.get(ThreadLocalRandom.current().nextInt(todoIds.size()));
+  }
+}
@@ -0,0 +1,26 @@
+package rest.felix.back.group;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import rest.felix.back.SeededApplication;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.group.service.GroupService;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupServiceBenchmark {
+
+  @Benchmark
+  public GroupRole getUserRoleInGroup(SeededApplication app) {
+    return app.bean(GroupService.class).getUserRoleInGroup(app.randomUserId(), app.randomGroupId());
+  }
+}
@@ -0,0 +1,105 @@
+package rest.felix.back.todo;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.BackApplication;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.user.entity.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadOnlyTransactionBenchmark {
+
+  @Param({"1000", "10000"})
+  private int todoCount;
+
+  @Param({"false", "true"})
+  private boolean readOnly;
+
+  private ConfigurableApplicationContext context;
+  private EntityManager em;
+  private TodoRepository todoRepository;
+  private TransactionTemplate transactionTemplate;
+  private long groupId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context =
+        new SpringApplicationBuilder(BackApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("bench")
+            .run();
+    em = context.getBean(EntityManager.class);
+    todoRepository = context.getBean(TodoRepository.class);
+
+    PlatformTransactionManager transactionManager =
+        context.getBean(PlatformTransactionManager.class);
+
+    groupId =
+        new TransactionTemplate(transactionManager)
+            .execute(
+                status -> {
+                  User user = new User();
+                  user.setUsername("bench");
+                  user.setNickname("bench");
+                  user.setHashedPassword("hashedPassword");
+                  em.persist(user);
+
+                  Group group = new Group();
+                  group.setName("bench group");
+                  group.setDescription("bench group description");
+                  em.persist(group);
+
+                  for (int idx = 0; idx < todoCount; idx++) {
+                    Todo todo = new Todo();
+                    todo.setAuthor(user);
+                    todo.setGroup(group);
+                    todo.setTitle(String.format("todo %d", idx));
+                    todo.setDescription(String.format("todo %d description", idx));
+                    todo.setOrder(String.format("%08d", idx));
+                    em.persist(todo);
+                  }
+
+                  return group.getId();
+                });
+
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(readOnly);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<TodoDTO> getTodosInGroup() {
+    return transactionTemplate.execute(status -> todoRepository.getTodosInGroup(groupId));
+  }
+}
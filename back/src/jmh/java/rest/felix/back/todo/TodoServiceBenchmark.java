@@ -0,0 +1,72 @@
+package rest.felix.back.todo;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import rest.felix.back.SeededApplication;
+import rest.felix.back.todo.dto.CreateTodoDTO;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.UpdateTodoDTO;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.service.TodoService;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoServiceBenchmark {
+
+  private static final AtomicLong sequence = new AtomicLong();
+
+  @Benchmark
+  public List<TodoDTO> getTodosInGroup(SeededApplication app) {
+    return app.bean(TodoService.class).getTodosInGroup(app.randomGroupId());
+  }
+
+  @Benchmark
+  public TodoDTO createTodo(SeededApplication app) {
+    TodoService todoService = app.bean(TodoService.class);
+    CreateTodoDTO createTodoDTO =
+        new CreateTodoDTO(
+            "bench todo",
+            "bench todo description",
+            String.format("z%016d", sequence.incrementAndGet()),
+            app.randomUserId(),
+            app.randomGroupId());
+
+    return app.transactionTemplate()
+        .execute(
+            status -> {
+              status.setRollbackOnly();
+              return todoService.createTodo(createTodoDTO);
+            });
+  }
+
+  @Benchmark
+  public TodoDTO updateTodo(SeededApplication app) {
+    TodoService todoService = app.bean(TodoService.class);
+    UpdateTodoDTO updateTodoDTO =
+        new UpdateTodoDTO(
+            app.randomTodoId(),
+            "bench todo",
+            "bench todo description",
+            String.format("z%016d", sequence.incrementAndGet()),
+            TodoStatus.DONE,
+            null);
+
+    return app.transactionTemplate()
+        .execute(
+            status -> {
+              status.setRollbackOnly();
+              return todoService.updateTodo(updateTodoDTO, app.randomUserId());
+            });
+  }
+}
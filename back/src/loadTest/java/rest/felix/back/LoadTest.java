@@ -0,0 +1,156 @@
+package rest.felix.back;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import rest.felix.back.loadtest.LatencyRecorder;
+import rest.felix.back.loadtest.LoadTestClient;
+import rest.felix.back.loadtest.LoadTestSettings;
+import rest.felix.back.loadtest.Operation;
+import rest.felix.back.loadtest.VirtualUser;
+
+public class LoadTest {
+
+  private static final Map<String, Double> PERCENTILES =
+      Map.of("p50", 0.50, "p95", 0.95, "p99", 0.99);
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = new LoadTestSettings();
+
+    ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(BackApplication.class)
+            .profiles("loadtest")
+            .properties("server.port=0")
+            .run(args);
+
+    boolean passed;
+    try {
+      int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+      ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+      LatencyRecorder recorder =
+          run(settings, new LoadTestClient(HttpClient.newHttpClient(), objectMapper, port));
+      passed = report(settings, recorder, objectMapper);
+    } finally {
+      context.close();
+    }
+
+    System.exit(passed ? 0 : 1);
+  }
+
+  private static LatencyRecorder run(LoadTestSettings settings, LoadTestClient client)
+      throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(settings.concurrency());
+
+    try {
+      List<VirtualUser> virtualUsers = new ArrayList<>();
+      List<Future<?>> seeds = new ArrayList<>();
+      for (int idx = 0; idx < settings.concurrency(); idx++) {
+        VirtualUser virtualUser = new VirtualUser(idx, client, settings);
+        virtualUsers.add(virtualUser);
+        seeds.add(
+            executorService.submit(
+                () -> {
+                  virtualUser.seed();
+                  return null;
+                }));
+      }
+      for (Future<?> seed : seeds) {
+        seed.get();
+      }
+
+      long warmupEndNanos =
+          System.nanoTime() + Duration.ofSeconds(settings.warmupSeconds()).toNanos();
+      long endNanos = warmupEndNanos + Duration.ofSeconds(settings.durationSeconds()).toNanos();
+
+      List<LatencyRecorder> recorders = new ArrayList<>();
+      List<Future<?>> runs = new ArrayList<>();
+      for (VirtualUser virtualUser : virtualUsers) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorders.add(recorder);
+        runs.add(executorService.submit(() -> virtualUser.run(warmupEndNanos, endNanos, recorder)));
+      }
+      for (Future<?> run : runs) {
+        run.get();
+      }
+
+      LatencyRecorder total = new LatencyRecorder();
+      recorders.forEach(total::addAll);
+      return total;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private static boolean report(
+      LoadTestSettings settings, LatencyRecorder recorder, ObjectMapper objectMapper)
+      throws IOException {
+    List<String> violations = new ArrayList<>();
+    Map<String, Object> results = new LinkedHashMap<>();
+    long requests = 0;
+    long errors = 0;
+
+    System.out.printf(
+        "%-8s %8s %7s %10s %10s %10s%n", "op", "count", "errors", "p50 ms", "p95 ms", "p99 ms");
+
+    for (Operation operation : Operation.values()) {
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("count", recorder.count(operation));
+      result.put("errors", recorder.errors(operation));
+
+      for (String percentile : List.of("p50", "p95", "p99")) {
+        double actual = recorder.percentileMillis(operation, PERCENTILES.get(percentile));
+        double threshold = settings.thresholdMillis(operation, percentile);
+        result.put(percentile, actual);
+
+        if (actual > threshold) {
+          violations.add(
+              String.format(
+                  "%s %s %.1f ms exceeds %.1f ms", operation.key(), percentile, actual, threshold));
+        }
+      }
+
+      System.out.printf(
+          "%-8s %8d %7d %10.1f %10.1f %10.1f%n",
+          operation.key(),
+          recorder.count(operation),
+          recorder.errors(operation),
+          result.get("p50"),
+          result.get("p95"),
+          result.get("p99"));
+
+      results.put(operation.key(), result);
+      requests += recorder.count(operation) + recorder.errors(operation);
+      errors += recorder.errors(operation);
+    }
+
+    double errorRate = requests == 0 ? 1 : (double) errors / requests;
+    if (errorRate > settings.maxErrorRate()) {
+      violations.add(
+          String.format(
+              "error rate %.4f exceeds %.4f (%d of %d requests)",
+              errorRate, settings.maxErrorRate(), errors, requests));
+    }
+
+    results.put("errorRate", errorRate);
+    results.put("violations", violations);
+
+    File reportFile = new File(System.getProperty("loadTest.reportFile", "load-test-results.json"));
+    reportFile.getAbsoluteFile().getParentFile().mkdirs();
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, results);
+
+    violations.forEach(violation -> System.out.println("SLO violation: " + violation));
+
+    return violations.isEmpty();
+  }
+}
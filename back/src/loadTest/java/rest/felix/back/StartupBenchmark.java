@@ -0,0 +1,226 @@
+package rest.felix.back;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import rest.felix.back.loadtest.LoadTestException;
+
+public class StartupBenchmark {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+  private static final String MAIN_CLASS = BackApplication.class.getName();
+
+  private static final HttpClient httpClient =
+      HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+  public static void main(String[] args) throws Exception {
+    Path jar = Path.of(System.getProperty("startupBenchmark.jar"));
+    Path h2Jar = Path.of(System.getProperty("startupBenchmark.h2Jar"));
+    Path workDir = Path.of(System.getProperty("startupBenchmark.workDir", "startup-benchmark"));
+    int runs = Integer.getInteger("startupBenchmark.runs", 5);
+    boolean aot = Boolean.getBoolean("startupBenchmark.aot");
+
+    Path extracted = extract(jar, workDir.resolve("extracted"));
+    String classpath = extracted.resolve(jar.getFileName()) + File.pathSeparator + h2Jar;
+
+    Map<String, List<String>> modes = new LinkedHashMap<>();
+    modes.put(
+        "jar",
+        List.of(
+            "-Dloader.path=" + h2Jar,
+            "-cp",
+            jar.toString(),
+            "org.springframework.boot.loader.launch.PropertiesLauncher"));
+    modes.put("extracted", List.of("-cp", classpath, MAIN_CLASS));
+    modes.put(
+        "cds",
+        List.of(
+            "-XX:SharedArchiveFile=" + train(classpath, workDir.resolve("cds.jsa"), List.of()),
+            "-cp",
+            classpath,
+            MAIN_CLASS));
+
+    if (aot) {
+      String aotEnabled = "-Dspring.aot.enabled=true";
+      Path archive = train(classpath, workDir.resolve("cds-aot.jsa"), List.of(aotEnabled));
+
+      modes.put("aot", List.of(aotEnabled, "-cp", classpath, MAIN_CLASS));
+      modes.put(
+          "cds+aot",
+          List.of("-XX:SharedArchiveFile=" + archive, aotEnabled, "-cp", classpath, MAIN_CLASS));
+    }
+
+    Map<String, Object> results = new LinkedHashMap<>();
+
+    System.out.printf("%-10s %10s %10s %10s%n", "mode", "min ms", "median ms", "max ms");
+
+    for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+      List<Long> millis = new ArrayList<>();
+      for (int run = 0; run < runs; run++) {
+        Path log = workDir.resolve(String.format("%s-%d.log", mode.getKey(), run));
+        millis.add(timeToFirstRequest(mode.getValue(), log));
+      }
+      millis.sort(Long::compare);
+
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("runs", millis);
+      result.put("min", millis.getFirst());
+      result.put("median", millis.get(millis.size() / 2));
+      result.put("max", millis.getLast());
+      results.put(mode.getKey(), result);
+
+      System.out.printf(
+          "%-10s %10d %10d %10d%n",
+          mode.getKey(), result.get("min"), result.get("median"), result.get("max"));
+    }
+
+    File reportFile =
+        new File(System.getProperty("startupBenchmark.reportFile", "startup-results.json"));
+    reportFile.getAbsoluteFile().getParentFile().mkdirs();
+    new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile, results);
+  }
+
+  private static Path extract(Path jar, Path destination) throws Exception {
+    run(
+        List.of(
+            java(),
+            "-Djarmode=tools",
+            "-jar",
+            jar.toString(),
+            "extract",
+            "--force",
+            "--destination",
+            destination.toString()),
+        destination.resolveSibling("extract.log"));
+
+    return destination;
+  }
+
+  private static Path train(String classpath, Path archive, List<String> jvmArgs) throws Exception {
+    List<String> command = new ArrayList<>();
+    command.add(java());
+    command.add("-XX:ArchiveClassesAtExit=" + archive);
+    command.add("-Dspring.context.exit=onRefresh");
+    command.addAll(jvmArgs);
+    command.addAll(List.of("-cp", classpath, MAIN_CLASS));
+    command.addAll(applicationArgs(0));
+
+    run(command, archive.resolveSibling(archive.getFileName() + ".log"));
+
+    return archive;
+  }
+
+  private static long timeToFirstRequest(List<String> jvmArgs, Path log) throws Exception {
+    int port = freePort();
+
+    List<String> command = new ArrayList<>();
+    command.add(java());
+    command.addAll(jvmArgs);
+    command.addAll(applicationArgs(port));
+
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/actuator/health"))
+            .timeout(Duration.ofSeconds(5))
+            .build();
+
+    long startNanos = System.nanoTime();
+    Process process = start(command, log);
+
+    try {
+      while (true) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        if (!process.isAlive()) {
+          throw new LoadTestException(
+              String.format("application exited with %d, see %s", process.exitValue(), log));
+        }
+        if (elapsedNanos > STARTUP_TIMEOUT.toNanos()) {
+          throw new LoadTestException("application did not answer in time, see " + log);
+        }
+
+        try {
+          HttpResponse<Void> response =
+              httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+          if (response.statusCode() == 200) {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+          }
+        } catch (IOException e) {
+          // not listening yet
+        }
+
+        Thread.sleep(10);
+      }
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly().waitFor();
+      }
+    }
+  }
+
+  private static void run(List<String> command, Path log) throws Exception {
+    Process process = start(command, log);
+
+    if (!process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+      process.destroyForcibly().waitFor();
+      throw new LoadTestException("command did not finish in time, see " + log);
+    }
+    if (process.exitValue() != 0) {
+      throw new LoadTestException(
+          String.format("command exited with %d, see %s", process.exitValue(), log));
+    }
+  }
+
+  private static Process start(List<String> command, Path log) throws IOException {
+    log.toAbsolutePath().getParent().toFile().mkdirs();
+
+    return new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(log.toFile())
+        .start();
+  }
+
+  private static List<String> applicationArgs(int port) {
+    byte[] secretKey = new byte[64];
+    new SecureRandom().nextBytes(secretKey);
+
+    return List.of(
+        "--server.port=" + port,
+        "--spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.show-sql=false",
+        "--spring.sql.init.mode=never",
+        "--rate-limit.enabled=false",
+        "--activity_log.partitioning.enabled=false",
+        "--todo.search.full_text=false",
+        "--logging.level.root=warn",
+        "--jwt.access_token.secret_key=" + Base64.getEncoder().encodeToString(secretKey));
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      return serverSocket.getLocalPort();
+    }
+  }
+
+  private static String java() {
+    return ProcessHandle.current().info().command().orElse("java");
+  }
+}
@@ -0,0 +1,60 @@
+package rest.felix.back.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class LatencyRecorder {
+
+  private final Map<Operation, long[]> samples = new EnumMap<>(Operation.class);
+  private final Map<Operation, Integer> sizes = new EnumMap<>(Operation.class);
+  private final Map<Operation, Integer> errors = new EnumMap<>(Operation.class);
+
+  public void record(Operation operation, long nanos) {
+    long[] values = samples.computeIfAbsent(operation, key -> new long[1024]);
+    int size = sizes.getOrDefault(operation, 0);
+
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size * 2);
+      samples.put(operation, values);
+    }
+
+    values[size] = nanos;
+    sizes.put(operation, size + 1);
+  }
+
+  public void recordError(Operation operation) {
+    errors.merge(operation, 1, Integer::sum);
+  }
+
+  public void addAll(LatencyRecorder other) {
+    other.samples.forEach(
+        (operation, values) -> {
+          for (int idx = 0; idx < other.sizes.get(operation); idx++) {
+            record(operation, values[idx]);
+          }
+        });
+    other.errors.forEach((operation, count) -> errors.merge(operation, count, Integer::sum));
+  }
+
+  public int count(Operation operation) {
+    return sizes.getOrDefault(operation, 0);
+  }
+
+  public int errors(Operation operation) {
+    return errors.getOrDefault(operation, 0);
+  }
+
+  public double percentileMillis(Operation operation, double percentile) {
+    int size = count(operation);
+    if (size == 0) {
+      return 0;
+    }
+
+    long[] sorted = Arrays.copyOf(samples.get(operation), size);
+    Arrays.sort(sorted);
+
+    int rank = (int) Math.ceil(percentile * size) - 1;
+    return sorted[Math.max(rank, 0)] / 1_000_000.0;
+  }
+}
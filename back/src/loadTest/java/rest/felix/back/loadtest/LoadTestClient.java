@@ -0,0 +1,124 @@
+package rest.felix.back.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+public class LoadTestClient {
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final String baseUrl;
+
+  public LoadTestClient(HttpClient httpClient, ObjectMapper objectMapper, int port) {
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.baseUrl = String.format("http://127.0.0.1:%d/api/v1", port);
+  }
+
+  public JsonNode signup(String username, String password)
+      throws IOException, InterruptedException {
+    return send(
+        "POST",
+        "/user",
+        null,
+        Map.of(
+            "username", username,
+            "nickname", username,
+            "password", password,
+            "confirmPassword", password));
+  }
+
+  public String login(String username, String password) throws IOException, InterruptedException {
+    HttpResponse<String> response =
+        exchange(
+            "POST",
+            "/user/token/access-token",
+            null,
+            Map.of("username", username, "password", password));
+
+    return response
+        .headers()
+        .firstValue("Set-Cookie")
+        .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+        .orElseThrow(() -> new LoadTestException("login returned no access token"));
+  }
+
+  public JsonNode createGroup(String cookie, String name) throws IOException, InterruptedException {
+    return send("POST", "/group", cookie, Map.of("name", name, "description", name));
+  }
+
+  public JsonNode listTodos(String cookie, long groupId) throws IOException, InterruptedException {
+    return send("GET", String.format("/group/%d/todo", groupId), cookie, null);
+  }
+
+  public JsonNode createTodo(String cookie, long groupId, String order)
+      throws IOException, InterruptedException {
+    return send(
+        "POST",
+        String.format("/group/%d/todo", groupId),
+        cookie,
+        Map.of("title", "load test todo", "description", "load test description", "order", order));
+  }
+
+  public JsonNode moveTodo(String cookie, long groupId, long todoId, String status, String order)
+      throws IOException, InterruptedException {
+    return send(
+        "PUT",
+        String.format("/group/%d/todo/%d", groupId, todoId),
+        cookie,
+        Map.of(
+            "title",
+            "load test todo",
+            "description",
+            "load test description",
+            "status",
+            status,
+            "order",
+            order));
+  }
+
+  public void deleteTodo(String cookie, long groupId, long todoId)
+      throws IOException, InterruptedException {
+    send("DELETE", String.format("/group/%d/todo/%d", groupId, todoId), cookie, null);
+  }
+
+  private JsonNode send(String method, String path, String cookie, Object body)
+      throws IOException, InterruptedException {
+    String responseBody = exchange(method, path, cookie, body).body();
+
+    return responseBody.isEmpty() ? null : objectMapper.readTree(responseBody);
+  }
+
+  private HttpResponse<String> exchange(String method, String path, String cookie, Object body)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .method(
+                method,
+                body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+
+    if (cookie != null) {
+      builder.header("Cookie", cookie);
+    }
+
+    HttpResponse<String> response =
+        httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+
+    if (response.statusCode() >= 400) {
+      throw new LoadTestException(
+          String.format("%s %s returned %d", method, path, response.statusCode()));
+    }
+
+    return response;
+  }
+}
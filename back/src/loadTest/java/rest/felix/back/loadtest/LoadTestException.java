@@ -0,0 +1,8 @@
+package rest.felix.back.loadtest;
+
+public class LoadTestException extends RuntimeException {
+
+  public LoadTestException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,58 @@
+package rest.felix.back.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+public class LoadTestSettings {
+
+  private static final String SYSTEM_PROPERTY_PREFIX = "loadTest.";
+
+  private final Properties properties = new Properties();
+
+  public LoadTestSettings() {
+    try (InputStream inputStream =
+        LoadTestSettings.class.getResourceAsStream("/load-test.properties")) {
+      properties.load(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    System.getProperties().stringPropertyNames().stream()
+        .filter(name -> name.startsWith(SYSTEM_PROPERTY_PREFIX))
+        .forEach(
+            name ->
+                properties.setProperty(
+                    name.substring(SYSTEM_PROPERTY_PREFIX.length()), System.getProperty(name)));
+  }
+
+  public int concurrency() {
+    return Integer.parseInt(properties.getProperty("concurrency"));
+  }
+
+  public int warmupSeconds() {
+    return Integer.parseInt(properties.getProperty("warmupSeconds"));
+  }
+
+  public int durationSeconds() {
+    return Integer.parseInt(properties.getProperty("durationSeconds"));
+  }
+
+  public int seedTodosPerUser() {
+    return Integer.parseInt(properties.getProperty("seedTodosPerUser"));
+  }
+
+  public double maxErrorRate() {
+    return Double.parseDouble(properties.getProperty("maxErrorRate"));
+  }
+
+  public int weight(Operation operation) {
+    return Integer.parseInt(properties.getProperty("mix." + operation.key()));
+  }
+
+  public double thresholdMillis(Operation operation, String percentile) {
+    return Double.parseDouble(
+        properties.getProperty(String.format("threshold.%s.%s", operation.key(), percentile)));
+  }
+}
@@ -0,0 +1,14 @@
+package rest.felix.back.loadtest;
+
+public enum Operation {
+  SIGNUP,
+  LOGIN,
+  LIST,
+  CREATE,
+  MOVE,
+  DELETE;
+
+  public String key() {
+    return name().toLowerCase();
+  }
+}
@@ -0,0 +1,117 @@
+package rest.felix.back.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class VirtualUser {
+
+  private static final String PASSWORD = "loadTestPassword";
+  private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE", "ON_HOLD"};
+
+  private final int id;
+  private final LoadTestClient client;
+  private final LoadTestSettings settings;
+  private final Random random;
+  private final List<Long> todoIds = new ArrayList<>();
+
+  private String username;
+  private String cookie;
+  private long groupId;
+  private long sequence;
+
+  public VirtualUser(int id, LoadTestClient client, LoadTestSettings settings) {
+    this.id = id;
+    this.client = client;
+    this.settings = settings;
+    this.random = new Random(id);
+  }
+
+  public void seed() throws IOException, InterruptedException {
+    username = String.format("loadtest%d", id);
+    client.signup(username, PASSWORD);
+    cookie = client.login(username, PASSWORD);
+    groupId =
+        client.createGroup(cookie, String.format("load test group %d", id)).get("id").asLong();
+
+    for (int idx = 0; idx < settings.seedTodosPerUser(); idx++) {
+      createTodo();
+    }
+  }
+
+  public void run(long warmupEndNanos, long endNanos, LatencyRecorder recorder) {
+    LatencyRecorder warmupRecorder = new LatencyRecorder();
+
+    for (long now = System.nanoTime(); now < endNanos; now = System.nanoTime()) {
+      Operation operation = nextOperation();
+      LatencyRecorder target = now < warmupEndNanos ? warmupRecorder : recorder;
+
+      long start = System.nanoTime();
+      try {
+        execute(operation);
+        target.record(operation, System.nanoTime() - start);
+      } catch (IOException | LoadTestException e) {
+        target.recordError(operation);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private Operation nextOperation() {
+    int total = 0;
+    for (Operation operation : Operation.values()) {
+      total += settings.weight(operation);
+    }
+
+    int pick = random.nextInt(total);
+    for (Operation operation : Operation.values()) {
+      pick -= settings.weight(operation);
+      if (pick < 0) {
+        return operation;
+      }
+    }
+
+    return Operation.LIST;
+  }
+
+  private void execute(Operation operation) throws IOException, InterruptedException {
+    switch (operation) {
+      case SIGNUP -> client.signup(String.format("loadtest%d-%d", id, ++sequence), PASSWORD);
+      case LOGIN -> cookie = client.login(username, PASSWORD);
+      case LIST -> client.listTodos(cookie, groupId);
+      case CREATE -> createTodo();
+      case MOVE -> {
+        if (todoIds.isEmpty()) {
+          createTodo();
+          return;
+        }
+
+        long todoId = todoIds.get(random.nextInt(todoIds.size()));
+        client.moveTodo(
+            cookie, groupId, todoId, STATUSES[random.nextInt(STATUSES.length)], nextOrder());
+      }
+      case DELETE -> {
+        if (todoIds.isEmpty()) {
+          createTodo();
+          return;
+        }
+
+        long todoId = todoIds.remove(random.nextInt(todoIds.size()));
+        client.deleteTodo(cookie, groupId, todoId);
+      }
+    }
+  }
+
+  private void createTodo() throws IOException, InterruptedException {
+    JsonNode todo = client.createTodo(cookie, groupId, nextOrder());
+    todoIds.add(todo.get("id").asLong());
+  }
+
+  private String nextOrder() {
+    return String.format("%010d", ++sequence);
+  }
+}
@@ -0,0 +1,58 @@
+package rest.felix.back.activity.controller;
+
+import java.security.Principal;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import rest.felix.back.activity.dto.ActivityLogPageDTO;
+import rest.felix.back.activity.dto.ActivityLogPageResponseDTO;
+import rest.felix.back.activity.dto.ActivityLogResponseDTO;
+import rest.felix.back.activity.service.ActivityLogService;
+import rest.felix.back.common.exception.throwable.badrequest.BadRequestException;
+import rest.felix.back.common.exception.throwable.unauthorized.NoMatchingUserException;
+import rest.felix.back.group.service.GroupService;
+import rest.felix.back.user.dto.UserDTO;
+import rest.felix.back.user.service.UserService;
+
+@RestController
+@RequestMapping("/api/v1/group")
+@AllArgsConstructor
+public class ActivityLogController {
+
+  private final UserService userService;
+  private final GroupService groupService;
+  private final ActivityLogService activityLogService;
+
+  @GetMapping("/{groupId}/activity")
+  public ResponseEntity<ActivityLogPageResponseDTO> getActivities(
+      Principal principal,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestParam(name = "cursor", required = false) Long cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+    if (size < 1 || size > 200) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+
+    String username = principal.getName();
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    groupService.getUserRoleInGroup(userId, groupId);
+
+    ActivityLogPageDTO activityLogPageDTO =
+        activityLogService.getActivitiesInGroup(groupId, cursor, size);
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            new ActivityLogPageResponseDTO(
+                activityLogPageDTO.getActivities().stream()
+                    .map(ActivityLogResponseDTO::of)
+                    .toList(),
+                activityLogPageDTO.getNextCursor()));
+  }
+}
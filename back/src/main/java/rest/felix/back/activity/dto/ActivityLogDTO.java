@@ -0,0 +1,19 @@
+package rest.felix.back.activity.dto;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+
+@Getter
+@AllArgsConstructor
+public class ActivityLogDTO {
+
+  private final Long id;
+  private final long groupId;
+  private final Long actorId;
+  private final ActivityType activityType;
+  private final Long targetId;
+  private final String detail;
+  private final ZonedDateTime occurredAt;
+}
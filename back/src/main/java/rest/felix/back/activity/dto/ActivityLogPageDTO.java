@@ -0,0 +1,13 @@
+package rest.felix.back.activity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ActivityLogPageDTO {
+
+  private final List<ActivityLogDTO> activities;
+  private final Long nextCursor;
+}
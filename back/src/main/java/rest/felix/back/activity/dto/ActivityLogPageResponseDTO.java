@@ -0,0 +1,6 @@
+package rest.felix.back.activity.dto;
+
+import java.util.List;
+
+public record ActivityLogPageResponseDTO(
+    List<ActivityLogResponseDTO> activities, Long nextCursor) {}
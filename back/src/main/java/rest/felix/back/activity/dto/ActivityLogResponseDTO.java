@@ -0,0 +1,24 @@
+package rest.felix.back.activity.dto;
+
+import java.time.ZonedDateTime;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+
+public record ActivityLogResponseDTO(
+    long id,
+    long groupId,
+    Long actorId,
+    ActivityType activityType,
+    Long targetId,
+    String detail,
+    ZonedDateTime occurredAt) {
+  public static ActivityLogResponseDTO of(ActivityLogDTO activityLogDTO) {
+    return new ActivityLogResponseDTO(
+        activityLogDTO.getId(),
+        activityLogDTO.getGroupId(),
+        activityLogDTO.getActorId(),
+        activityLogDTO.getActivityType(),
+        activityLogDTO.getTargetId(),
+        activityLogDTO.getDetail(),
+        activityLogDTO.getOccurredAt());
+  }
+}
@@ -0,0 +1,45 @@
+package rest.felix.back.activity.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+
+@Getter
+@ToString
+@Entity
+@Immutable
+@Table(indexes = @Index(name = "activity_log_group_id_id_idx", columnList = "groupId, id"))
+public class ActivityLog {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long groupId;
+
+  private Long actorId;
+
+  @Column(nullable = false, length = 50)
+  @Enumerated(EnumType.STRING)
+  private ActivityType activityType;
+
+  private Long targetId;
+
+  @Column(length = 1000)
+  private String detail;
+
+  @Column(nullable = false)
+  private ZonedDateTime occurredAt;
+}
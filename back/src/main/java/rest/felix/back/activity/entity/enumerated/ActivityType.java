@@ -0,0 +1,11 @@
+package rest.felix.back.activity.entity.enumerated;
+
+public enum ActivityType {
+  GROUP_CREATED,
+  GROUP_DELETED,
+  TODO_CREATED,
+  TODO_UPDATED,
+  TODO_DELETED,
+  MEMBERS_UPSERTED,
+  MEMBERS_REMOVED
+}
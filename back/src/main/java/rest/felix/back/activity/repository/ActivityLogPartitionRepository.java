@@ -0,0 +1,96 @@
+package rest.felix.back.activity.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@AllArgsConstructor
+public class ActivityLogPartitionRepository {
+
+  private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+  private final EntityManager em;
+
+  public static String partitionName(YearMonth month) {
+    return "activity_log_" + month.format(PARTITION_SUFFIX);
+  }
+
+  public static YearMonth partitionMonth(String partitionName) {
+    return YearMonth.parse(partitionName.substring("activity_log_".length()), PARTITION_SUFFIX);
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<String> getPartitionNames() {
+    return em.createNativeQuery(
+            """
+        SELECT
+            c."relname"
+        FROM
+            "pg_inherits" i
+        JOIN
+            "pg_class" c ON c."oid" = i."inhrelid"
+        JOIN
+            "pg_class" p ON p."oid" = i."inhparent"
+        WHERE
+            p."relname" = 'activity_log'
+            AND c."relname" <> 'activity_log_default'
+        """,
+            String.class)
+        .getResultList();
+  }
+
+  public void createPartition(YearMonth month) {
+    String partitionName = partitionName(month);
+    String from = String.format("%s-01 00:00:00+00", month);
+    String to = String.format("%s-01 00:00:00+00", month.plusMonths(1));
+
+    em.createNativeQuery(
+            String.format(
+                """
+            CREATE TABLE "%s"
+            (LIKE "activity_log" INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+            """,
+                partitionName))
+        .executeUpdate();
+    em.createNativeQuery(
+            String.format(
+                """
+            WITH moved AS (
+                DELETE FROM
+                    "activity_log_default"
+                WHERE
+                    "occurred_at" >= '%s'
+                    AND "occurred_at" < '%s'
+                RETURNING
+                    *
+            )
+            INSERT INTO "%s"
+            SELECT
+                *
+            FROM
+                moved
+            """,
+                from, to, partitionName))
+        .executeUpdate();
+    em.createNativeQuery(
+            String.format(
+                """
+            ALTER TABLE "activity_log"
+            ATTACH PARTITION "%s"
+            FOR VALUES FROM ('%s') TO ('%s')
+            """,
+                partitionName, from, to))
+        .executeUpdate();
+  }
+
+  public void dropPartition(String partitionName) {
+    em.createNativeQuery(
+            String.format("ALTER TABLE \"activity_log\" DETACH PARTITION \"%s\"", partitionName))
+        .executeUpdate();
+    em.createNativeQuery(String.format("DROP TABLE \"%s\"", partitionName)).executeUpdate();
+  }
+}
@@ -0,0 +1,94 @@
+package rest.felix.back.activity.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import rest.felix.back.activity.dto.ActivityLogDTO;
+import rest.felix.back.activity.dto.ActivityLogPageDTO;
+
+@Repository
+@AllArgsConstructor
+public class ActivityLogRepository {
+
+  private final EntityManager em;
+
+  public void saveAll(List<ActivityLogDTO> activityLogDTOs) {
+    em.unwrap(Session.class)
+        .doWork(
+            connection -> {
+              try (PreparedStatement statement =
+                  connection.prepareStatement(
+                      """
+                      INSERT INTO "activity_log" (
+                          "group_id",
+                          "actor_id",
+                          "activity_type",
+                          "target_id",
+                          "detail",
+                          "occurred_at"
+                      ) VALUES (?, ?, ?, ?, ?, ?)
+                      """)) {
+                for (ActivityLogDTO activityLogDTO : activityLogDTOs) {
+                  statement.setLong(1, activityLogDTO.getGroupId());
+                  statement.setObject(2, activityLogDTO.getActorId(), Types.BIGINT);
+                  statement.setString(3, activityLogDTO.getActivityType().name());
+                  statement.setObject(4, activityLogDTO.getTargetId(), Types.BIGINT);
+                  statement.setString(5, activityLogDTO.getDetail());
+                  statement.setObject(6, activityLogDTO.getOccurredAt().toOffsetDateTime());
+                  statement.addBatch();
+                }
+
+                statement.executeBatch();
+              }
+            });
+  }
+
+  public ActivityLogPageDTO getActivitiesInGroup(long groupId, Long cursor, int size) {
+    TypedQuery<ActivityLogDTO> query =
+        em.createQuery(
+                String.format(
+                    """
+                    SELECT
+                        new rest.felix.back.activity.dto.ActivityLogDTO(
+                            a.id,
+                            a.groupId,
+                            a.actorId,
+                            a.activityType,
+                            a.targetId,
+                            a.detail,
+                            a.occurredAt
+                        )
+                    FROM
+                        ActivityLog a
+                    WHERE
+                        a.groupId = :groupId
+                        %s
+                    ORDER BY
+                        a.id DESC
+                    """,
+                    cursor == null ? "" : "AND a.id < :cursor"),
+                ActivityLogDTO.class)
+            .setParameter("groupId", groupId)
+            .setMaxResults(size + 1)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+    if (cursor != null) {
+      query.setParameter("cursor", cursor);
+    }
+
+    List<ActivityLogDTO> activityLogDTOs = query.getResultList();
+
+    if (activityLogDTOs.size() <= size) {
+      return new ActivityLogPageDTO(activityLogDTOs, null);
+    }
+
+    List<ActivityLogDTO> page = activityLogDTOs.subList(0, size);
+    return new ActivityLogPageDTO(page, page.get(size - 1).getId());
+  }
+}
@@ -0,0 +1,68 @@
+package rest.felix.back.activity.service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.activity.repository.ActivityLogPartitionRepository;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "activity_log.partitioning.enabled", havingValue = "true")
+public class ActivityLogPartitionMaintainer {
+
+  private final ActivityLogPartitionRepository activityLogPartitionRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int monthsAhead;
+  private final int retentionMonths;
+
+  public ActivityLogPartitionMaintainer(
+      ActivityLogPartitionRepository activityLogPartitionRepository,
+      TransactionTemplate transactionTemplate,
+      @Value("${activity_log.partitioning.months_ahead}") int monthsAhead,
+      @Value("${activity_log.partitioning.retention_months}") int retentionMonths) {
+    this.activityLogPartitionRepository = activityLogPartitionRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.monthsAhead = monthsAhead;
+    this.retentionMonths = retentionMonths;
+  }
+
+  @Scheduled(fixedDelayString = "${activity_log.partitioning.maintenance_interval_ms}")
+  public void maintain() {
+    YearMonth now = YearMonth.now(ZoneOffset.UTC);
+    YearMonth oldestRetained = now.minusMonths(retentionMonths);
+
+    try {
+      List<String> partitionNames = activityLogPartitionRepository.getPartitionNames();
+
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            for (int i = 0; i <= monthsAhead; i++) {
+              YearMonth month = now.plusMonths(i);
+              if (!partitionNames.contains(ActivityLogPartitionRepository.partitionName(month))) {
+                activityLogPartitionRepository.createPartition(month);
+              }
+            }
+          });
+
+      partitionNames.stream()
+          .filter(
+              partitionName ->
+                  ActivityLogPartitionRepository.partitionMonth(partitionName)
+                      .isBefore(oldestRetained))
+          .forEach(
+              partitionName -> {
+                transactionTemplate.executeWithoutResult(
+                    status -> activityLogPartitionRepository.dropPartition(partitionName));
+                log.info("Dropped activity log partition {}", partitionName);
+              });
+    } catch (RuntimeException e) {
+      log.warn("Failed to maintain activity log partitions", e);
+    }
+  }
+}
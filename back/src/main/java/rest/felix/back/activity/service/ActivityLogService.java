@@ -0,0 +1,56 @@
+package rest.felix.back.activity.service;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import rest.felix.back.activity.dto.ActivityLogDTO;
+import rest.felix.back.activity.dto.ActivityLogPageDTO;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+import rest.felix.back.activity.repository.ActivityLogRepository;
+
+@Service
+@Transactional
+@AllArgsConstructor
+public class ActivityLogService {
+
+  private static final int MAX_DETAIL_LENGTH = 1000;
+
+  private final ActivityLogRepository activityLogRepository;
+  private final ActivityLogWriter activityLogWriter;
+
+  public void record(
+      long groupId, Long actorId, ActivityType activityType, Long targetId, String detail) {
+    ActivityLogDTO activityLogDTO =
+        new ActivityLogDTO(
+            null,
+            groupId,
+            actorId,
+            activityType,
+            targetId,
+            detail == null || detail.length() <= MAX_DETAIL_LENGTH
+                ? detail
+                : detail.substring(0, MAX_DETAIL_LENGTH),
+            ZonedDateTime.now());
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      activityLogWriter.enqueue(activityLogDTO);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            activityLogWriter.enqueue(activityLogDTO);
+          }
+        });
+  }
+
+  @Transactional(readOnly = true)
+  public ActivityLogPageDTO getActivitiesInGroup(long groupId, Long cursor, int size) {
+    return activityLogRepository.getActivitiesInGroup(groupId, cursor, size);
+  }
+}
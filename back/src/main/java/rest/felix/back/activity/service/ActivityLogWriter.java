@@ -0,0 +1,69 @@
+package rest.felix.back.activity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.activity.dto.ActivityLogDTO;
+import rest.felix.back.activity.repository.ActivityLogRepository;
+
+@Slf4j
+@Component
+public class ActivityLogWriter {
+
+  private final ActivityLogRepository activityLogRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<ActivityLogDTO> pending;
+  private final int batchSize;
+  private final Counter droppedCounter;
+
+  public ActivityLogWriter(
+      ActivityLogRepository activityLogRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${activity_log.buffer.capacity}") int capacity,
+      @Value("${activity_log.buffer.batch_size}") int batchSize) {
+    this.activityLogRepository = activityLogRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.pending = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.droppedCounter = meterRegistry.counter("activity_log.dropped");
+    meterRegistry.gaugeCollectionSize("activity_log.pending", List.of(), pending);
+  }
+
+  public void enqueue(ActivityLogDTO activityLogDTO) {
+    if (!pending.offer(activityLogDTO)) {
+      droppedCounter.increment();
+      log.warn("Activity log buffer full, dropped {}", activityLogDTO.getActivityType());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${activity_log.buffer.flush_interval_ms}")
+  public synchronized void flush() {
+    List<ActivityLogDTO> batch = new ArrayList<>(batchSize);
+
+    while (pending.drainTo(batch, batchSize) > 0) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> activityLogRepository.saveAll(batch));
+      } catch (RuntimeException e) {
+        droppedCounter.increment(batch.size());
+        log.warn("Failed to write {} activity log entries", batch.size(), e);
+      }
+
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+}
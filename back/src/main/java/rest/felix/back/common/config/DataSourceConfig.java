@@ -0,0 +1,78 @@
+package rest.felix.back.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import rest.felix.back.common.datasource.ReadYourWritesTracker;
+import rest.felix.back.common.datasource.ReplicaLagMonitor;
+import rest.felix.back.common.datasource.ReplicationRoutingDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties dataSourceProperties,
+      @Value("${datasource.replica.url}") String url,
+      @Value("${datasource.replica.username}") String username,
+      @Value("${datasource.replica.password}") String password) {
+    HikariDataSource replicaDataSource =
+        DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(dataSourceProperties.getDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+    replicaDataSource.setReadOnly(true);
+
+    return replicaDataSource;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      @Value("${datasource.replica.lag_query}") String lagQuery,
+      @Value("${datasource.replica.max_lag_ms}") long maxLagMillis) {
+    ReplicaLagMonitor replicaLagMonitor =
+        new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagMillis);
+    replicaLagMonitor.check();
+
+    return replicaLagMonitor;
+  }
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker(
+      @Value("${datasource.replica.stickiness_ms}") long stickinessMillis) {
+    return new ReadYourWritesTracker(stickinessMillis);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaLagMonitor replicaLagMonitor,
+      ReadYourWritesTracker readYourWritesTracker) {
+    return new LazyConnectionDataSourceProxy(
+        new ReplicationRoutingDataSource(
+            primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker));
+  }
+}
@@ -0,0 +1,30 @@
+package rest.felix.back.common.config;
+
+import lombok.AllArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import rest.felix.back.common.metrics.QueryCountingStatementInspector;
+import rest.felix.back.common.metrics.RequestMetricsInterceptor;
+
+@Configuration
+@AllArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+  private final RequestMetricsInterceptor requestMetricsInterceptor;
+
+  @Bean
+  public HibernatePropertiesCustomizer statementInspectorCustomizer(
+      QueryCountingStatementInspector queryCountingStatementInspector) {
+    return properties ->
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountingStatementInspector);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(requestMetricsInterceptor);
+  }
+}
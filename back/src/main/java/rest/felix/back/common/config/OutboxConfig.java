@@ -0,0 +1,16 @@
+package rest.felix.back.common.config;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import rest.felix.back.common.outbox.ApplicationEventOutboxEventSink;
+import rest.felix.back.common.outbox.OutboxEventSink;
+
+@Configuration
+public class OutboxConfig {
+
+  @Bean
+  public OutboxEventSink outboxEventSink(ApplicationEventPublisher applicationEventPublisher) {
+    return new ApplicationEventOutboxEventSink(applicationEventPublisher);
+  }
+}
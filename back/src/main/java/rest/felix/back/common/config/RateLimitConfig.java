@@ -0,0 +1,23 @@
+package rest.felix.back.common.config;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import rest.felix.back.common.ratelimit.RateLimitInterceptor;
+import rest.felix.back.common.ratelimit.RateLimitProperties;
+
+@Configuration
+@AllArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+  private final RateLimitInterceptor rateLimitInterceptor;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(rateLimitInterceptor).order(Ordered.HIGHEST_PRECEDENCE);
+  }
+}
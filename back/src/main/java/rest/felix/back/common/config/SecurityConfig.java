@@ -1,6 +1,7 @@
 package rest.felix.back.common.config;
 
 import lombok.AllArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,10 +12,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import rest.felix.back.common.security.JwtAuthenticationFilter;
+import rest.felix.back.common.security.JwtKeyRingProperties;
 
 @Configuration
 @EnableWebSecurity
 @AllArgsConstructor
+@EnableConfigurationProperties(JwtKeyRingProperties.class)
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -30,6 +33,12 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/api/v1/user/token/access-token")
                     .permitAll()
+                    .requestMatchers("/api/v1/user/token/refresh")
+                    .permitAll()
+                    .requestMatchers("/api/v1/user/token/jwks")
+                    .permitAll()
+                    .requestMatchers("/actuator/health", "/actuator/prometheus")
+                    .permitAll()
                     .anyRequest()
                     .authenticated())
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
@@ -0,0 +1,21 @@
+package rest.felix.back.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import rest.felix.back.common.serialization.ColumnarJsonHttpMessageConverter;
+
+@Configuration
+@AllArgsConstructor
+public class SerializationConfig implements WebMvcConfigurer {
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new ColumnarJsonHttpMessageConverter(objectMapper));
+  }
+}
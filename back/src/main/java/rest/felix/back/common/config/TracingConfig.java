@@ -0,0 +1,21 @@
+package rest.felix.back.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import rest.felix.back.common.tracing.FileSpanExporter;
+
+@Configuration
+@ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true")
+public class TracingConfig {
+
+  @Bean
+  public FileSpanExporter fileSpanExporter(
+      ObjectMapper objectMapper, @Value("${tracing.file.path}") String path) throws IOException {
+    return new FileSpanExporter(objectMapper, Path.of(path));
+  }
+}
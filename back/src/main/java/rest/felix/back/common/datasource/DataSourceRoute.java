@@ -0,0 +1,6 @@
+package rest.felix.back.common.datasource;
+
+public enum DataSourceRoute {
+  PRIMARY,
+  REPLICA
+}
@@ -0,0 +1,40 @@
+package rest.felix.back.common.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReadYourWritesTracker {
+
+  private final long stickinessMillis;
+  private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+  public ReadYourWritesTracker(long stickinessMillis) {
+    this.stickinessMillis = stickinessMillis;
+  }
+
+  public void recordWrite(String username) {
+    stickyUntil.put(username, System.currentTimeMillis() + stickinessMillis);
+  }
+
+  public boolean isSticky(String username) {
+    Long until = stickyUntil.get(username);
+
+    if (until == null) {
+      return false;
+    }
+
+    if (until < System.currentTimeMillis()) {
+      stickyUntil.remove(username, until);
+      return false;
+    }
+
+    return true;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.replica.stickiness_ms}")
+  public void purgeExpired() {
+    long now = System.currentTimeMillis();
+    stickyUntil.values().removeIf(until -> until < now);
+  }
+}
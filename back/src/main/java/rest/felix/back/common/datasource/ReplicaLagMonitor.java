@@ -0,0 +1,46 @@
+package rest.felix.back.common.datasource;
+
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private final JdbcTemplate replicaJdbcTemplate;
+  private final String lagQuery;
+  private final long maxLagMillis;
+
+  private volatile boolean replicaAvailable = false;
+
+  public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagMillis) {
+    this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    this.lagQuery = lagQuery;
+    this.maxLagMillis = maxLagMillis;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.replica.lag_check_interval_ms}")
+  public void check() {
+    try {
+      Long lagMillis = replicaJdbcTemplate.queryForObject(lagQuery, Long.class);
+      boolean available = lagMillis != null && lagMillis <= maxLagMillis;
+
+      if (available != replicaAvailable) {
+        log.info("Replica {} (lag: {}ms)", available ? "available" : "lagging", lagMillis);
+      }
+
+      replicaAvailable = available;
+    } catch (Exception e) {
+      if (replicaAvailable) {
+        log.warn("Replica lag check failed, routing reads to primary", e);
+      }
+
+      replicaAvailable = false;
+    }
+  }
+
+  public boolean isReplicaAvailable() {
+    return replicaAvailable;
+  }
+}
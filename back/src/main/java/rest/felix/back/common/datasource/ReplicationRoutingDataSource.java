@@ -0,0 +1,56 @@
+package rest.felix.back.common.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+  private final ReplicaLagMonitor replicaLagMonitor;
+  private final ReadYourWritesTracker readYourWritesTracker;
+
+  public ReplicationRoutingDataSource(
+      DataSource primaryDataSource,
+      DataSource replicaDataSource,
+      ReplicaLagMonitor replicaLagMonitor,
+      ReadYourWritesTracker readYourWritesTracker) {
+    this.replicaLagMonitor = replicaLagMonitor;
+    this.readYourWritesTracker = readYourWritesTracker;
+
+    setTargetDataSources(
+        Map.of(
+            DataSourceRoute.PRIMARY, primaryDataSource,
+            DataSourceRoute.REPLICA, replicaDataSource));
+    setDefaultTargetDataSource(primaryDataSource);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String username = currentUsername();
+
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (username != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+        readYourWritesTracker.recordWrite(username);
+      }
+
+      return DataSourceRoute.PRIMARY;
+    }
+
+    if (!replicaLagMonitor.isReplicaAvailable()
+        || (username != null && readYourWritesTracker.isSticky(username))) {
+      return DataSourceRoute.PRIMARY;
+    }
+
+    return DataSourceRoute.REPLICA;
+  }
+
+  private String currentUsername() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    return authentication == null ? null : authentication.getName();
+  }
+}
@@ -0,0 +1,63 @@
+package rest.felix.back.common.exception;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@Getter
+@AllArgsConstructor
+public enum ErrorCode {
+  ORDER_CONFLICT(
+      "uk_todo_group_id_order_todo_status",
+      "Another todo already has this order, please reload the board."),
+  USERNAME_TAKEN("uk_user_username", "해당 username은 이미 사용 중입니다."),
+  ALREADY_GROUP_MEMBER(
+      "uk_user_group_user_id_group_id", "The user is already a member of this group."),
+  IDEMPOTENCY_KEY_IN_USE(
+      "uk_todo_idempotency_key_user_id_idempotency_key",
+      "A request with this Idempotency-Key is already being processed."),
+  IDEMPOTENCY_KEY_REUSED(null, "This Idempotency-Key was already used for a different request."),
+  REFERENCE_NOT_FOUND(null, "The referenced resource does not exist."),
+  CONSTRAINT_VIOLATION(null, "Bad Request, please try again later.");
+
+  private static final Map<String, ErrorCode> byConstraintName = new ConcurrentHashMap<>();
+  private static final Set<String> foreignKeyViolationStates = Set.of("23503", "23506");
+
+  private final String constraintName;
+  private final String message;
+
+  public static ErrorCode of(DataIntegrityViolationException exception) {
+    if (!(exception.getCause() instanceof ConstraintViolationException cause)) {
+      return CONSTRAINT_VIOLATION;
+    }
+
+    ErrorCode errorCode =
+        cause.getConstraintName() != null
+            ? byConstraintName.computeIfAbsent(
+                cause.getConstraintName(), ErrorCode::ofConstraintName)
+            : ofConstraintName(String.valueOf(cause.getMessage()));
+
+    if (errorCode == CONSTRAINT_VIOLATION
+        && foreignKeyViolationStates.contains(cause.getSQLState())) {
+      return REFERENCE_NOT_FOUND;
+    }
+
+    return errorCode;
+  }
+
+  private static ErrorCode ofConstraintName(String constraintName) {
+    String normalized = constraintName.toLowerCase(Locale.ROOT);
+
+    return Arrays.stream(values())
+        .filter(errorCode -> errorCode.constraintName != null)
+        .filter(errorCode -> normalized.contains(errorCode.constraintName))
+        .findFirst()
+        .orElse(CONSTRAINT_VIOLATION);
+  }
+}
@@ -1,3 +1,3 @@
 package rest.felix.back.common.exception;
 
-public record ErrorResponseDTO(String message) {}
+public record ErrorResponseDTO(String message, ErrorCode code, String traceId) {}
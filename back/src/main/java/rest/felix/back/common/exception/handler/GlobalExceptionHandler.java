@@ -1,64 +1,113 @@
 package rest.felix.back.common.exception.handler;
 
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import rest.felix.back.common.exception.ErrorCode;
 import rest.felix.back.common.exception.ErrorResponseDTO;
 import rest.felix.back.common.exception.throwable.badrequest.BadRequestException;
 import rest.felix.back.common.exception.throwable.forbidden.UserAccessDeniedException;
 import rest.felix.back.common.exception.throwable.notfound.ResourceNotFoundException;
+import rest.felix.back.common.exception.throwable.preconditionfailed.PreconditionFailedException;
+import rest.felix.back.common.exception.throwable.toomanyrequests.TooManyRequestsException;
 import rest.felix.back.common.exception.throwable.unauthorized.UnauthorizedException;
 
 @RestControllerAdvice
+@AllArgsConstructor
 public class GlobalExceptionHandler {
 
+  private final ObjectProvider<Tracer> tracer;
+
   @ExceptionHandler(BadRequestException.class)
   public ResponseEntity<ErrorResponseDTO> handleBadRequestException(BadRequestException exception) {
     return ResponseEntity.status(exception.getStatusCode())
-        .body(new ErrorResponseDTO(exception.getMessage()));
+        .body(errorResponse(exception.getMessage(), exception.getCode()));
   }
 
   @ExceptionHandler(UnauthorizedException.class)
   public ResponseEntity<ErrorResponseDTO> handleUnauthorizedException(
       UnauthorizedException exception) {
     return ResponseEntity.status(exception.getStatusCode())
-        .body(new ErrorResponseDTO(exception.getMessage()));
+        .body(errorResponse(exception.getMessage()));
   }
 
   @ExceptionHandler(UserAccessDeniedException.class)
   public ResponseEntity<ErrorResponseDTO> handleUnauthorizedException(
       UserAccessDeniedException exception) {
     return ResponseEntity.status(exception.getStatusCode())
-        .body(new ErrorResponseDTO(exception.getMessage()));
+        .body(errorResponse(exception.getMessage()));
   }
 
   @ExceptionHandler(ResourceNotFoundException.class)
   public ResponseEntity<ErrorResponseDTO> handleGroupNotFoundException(
       ResourceNotFoundException exception) {
     return ResponseEntity.status(exception.getStatusCode())
-        .body(new ErrorResponseDTO(exception.getMessage()));
+        .body(errorResponse(exception.getMessage()));
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ErrorResponseDTO> handlePreconditionFailedException(
+      PreconditionFailedException exception) {
+    return ResponseEntity.status(exception.getStatusCode())
+        .body(errorResponse(exception.getMessage()));
+  }
+
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<ErrorResponseDTO> handleTooManyRequestsException(
+      TooManyRequestsException exception) {
+    return ResponseEntity.status(exception.getStatusCode())
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+        .body(errorResponse(exception.getMessage()));
   }
 
   @ExceptionHandler(DataIntegrityViolationException.class)
   public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolationException(
       DataIntegrityViolationException exception) {
+    ErrorCode errorCode = ErrorCode.of(exception);
+
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(new ErrorResponseDTO("Bad Request, please try again later."));
+        .body(errorResponse(errorCode.getMessage(), errorCode));
   }
 
-  @ExceptionHandler(MethodArgumentNotValidException.class)
+  @ExceptionHandler({
+    MethodArgumentNotValidException.class,
+    MethodArgumentTypeMismatchException.class
+  })
   public ResponseEntity<ErrorResponseDTO> handleMethodArgumentNotValidException(
-      MethodArgumentNotValidException exception) {
+      Exception exception) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(new ErrorResponseDTO("Bad Request, please check parameters."));
+        .body(errorResponse("Bad Request, please check parameters."));
   }
 
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponseDTO> handleException(Exception exception) {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-        .body(new ErrorResponseDTO("Something went wrong, please try  later."));
+        .body(errorResponse("Something went wrong, please try  later."));
+  }
+
+  private ErrorResponseDTO errorResponse(String message) {
+    return errorResponse(message, null);
+  }
+
+  private ErrorResponseDTO errorResponse(String message, ErrorCode code) {
+    String traceId =
+        Optional.ofNullable(tracer.getIfAvailable())
+            .map(Tracer::currentSpan)
+            .map(Span::context)
+            .map(TraceContext::traceId)
+            .orElse(null);
+
+    return new ErrorResponseDTO(message, code, traceId);
   }
 }
@@ -1,6 +1,7 @@
 package rest.felix.back.common.exception.throwable.badrequest;
 
 import lombok.Getter;
+import rest.felix.back.common.exception.ErrorCode;
 import rest.felix.back.common.exception.throwable.RequestExceptionInterface;
 
 @Getter
@@ -8,8 +9,14 @@ public class BadRequestException extends RuntimeException implements RequestExce
 
   private final int statusCode = 400;
   private String message = "Bad Request Couldn't be handled";
+  private ErrorCode code;
 
   public BadRequestException(String message) {
     this.message = message;
   }
+
+  public BadRequestException(ErrorCode code) {
+    this.message = code.getMessage();
+    this.code = code;
+  }
 }
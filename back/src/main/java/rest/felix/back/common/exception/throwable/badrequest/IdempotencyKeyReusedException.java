@@ -0,0 +1,12 @@
+package rest.felix.back.common.exception.throwable.badrequest;
+
+import lombok.Getter;
+import rest.felix.back.common.exception.ErrorCode;
+
+@Getter
+public class IdempotencyKeyReusedException extends BadRequestException {
+
+  public IdempotencyKeyReusedException() {
+    super(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+  }
+}
@@ -0,0 +1,11 @@
+package rest.felix.back.common.exception.throwable.badrequest;
+
+import lombok.Getter;
+
+@Getter
+public class OwnerRoleAssignmentException extends BadRequestException {
+
+  public OwnerRoleAssignmentException() {
+    super("The owner role cannot be assigned to members.");
+  }
+}
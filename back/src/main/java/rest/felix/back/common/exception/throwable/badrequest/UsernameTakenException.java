@@ -1,11 +1,12 @@
 package rest.felix.back.common.exception.throwable.badrequest;
 
 import lombok.Getter;
+import rest.felix.back.common.exception.ErrorCode;
 
 @Getter
 public class UsernameTakenException extends BadRequestException {
 
   public UsernameTakenException() {
-    super("해당 username은 이미 사용 중입니다.");
+    super(ErrorCode.USERNAME_TAKEN);
   }
 }
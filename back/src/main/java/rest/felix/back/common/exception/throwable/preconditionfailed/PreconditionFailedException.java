@@ -0,0 +1,16 @@
+package rest.felix.back.common.exception.throwable.preconditionfailed;
+
+import lombok.Getter;
+import rest.felix.back.common.exception.throwable.RequestExceptionInterface;
+
+@Getter
+public class PreconditionFailedException extends RuntimeException
+    implements RequestExceptionInterface {
+
+  private final int statusCode = 412;
+  private String message = "Precondition Failed.";
+
+  public PreconditionFailedException(String message) {
+    this.message = message;
+  }
+}
@@ -0,0 +1,8 @@
+package rest.felix.back.common.exception.throwable.preconditionfailed;
+
+public class TodoVersionMismatchException extends PreconditionFailedException {
+
+  public TodoVersionMismatchException() {
+    super("The todo has been modified by someone else, please reload it.");
+  }
+}
@@ -0,0 +1,8 @@
+package rest.felix.back.common.exception.throwable.toomanyrequests;
+
+public class RateLimitExceededException extends TooManyRequestsException {
+
+  public RateLimitExceededException(long retryAfterSeconds) {
+    super("Too many requests, please try again later.", retryAfterSeconds);
+  }
+}
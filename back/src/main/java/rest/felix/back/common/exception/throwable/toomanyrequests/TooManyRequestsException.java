@@ -0,0 +1,18 @@
+package rest.felix.back.common.exception.throwable.toomanyrequests;
+
+import lombok.Getter;
+import rest.felix.back.common.exception.throwable.RequestExceptionInterface;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException
+    implements RequestExceptionInterface {
+
+  private final int statusCode = 429;
+  private String message = "Too Many Requests.";
+  private final long retryAfterSeconds;
+
+  public TooManyRequestsException(String message, long retryAfterSeconds) {
+    this.message = message;
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
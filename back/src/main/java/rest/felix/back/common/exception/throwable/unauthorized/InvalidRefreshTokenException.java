@@ -0,0 +1,8 @@
+package rest.felix.back.common.exception.throwable.unauthorized;
+
+public class InvalidRefreshTokenException extends UnauthorizedException {
+
+  public InvalidRefreshTokenException() {
+    super("Refresh token is invalid or expired.");
+  }
+}
@@ -0,0 +1,17 @@
+package rest.felix.back.common.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GroupSizeServerRequestObservationConvention
+    extends DefaultServerRequestObservationConvention {
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+    return super.getLowCardinalityKeyValues(context)
+        .and("group.size", RequestMetrics.groupSize(context.getCarrier()));
+  }
+}
@@ -0,0 +1,18 @@
+package rest.felix.back.common.metrics;
+
+import lombok.AllArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class QueryCountingStatementInspector implements StatementInspector {
+
+  private final RequestMetrics requestMetrics;
+
+  @Override
+  public String inspect(String sql) {
+    requestMetrics.recordQuery(sql);
+    return sql;
+  }
+}
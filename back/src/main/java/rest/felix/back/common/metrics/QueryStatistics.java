@@ -0,0 +1,23 @@
+package rest.felix.back.common.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+public class QueryStatistics {
+
+  @Getter private int count;
+  private final Map<String, Integer> statementCounts = new HashMap<>();
+
+  public void record(String sql) {
+    count++;
+    statementCounts.merge(sql, 1, Integer::sum);
+  }
+
+  public List<Map.Entry<String, Integer>> repeatedStatements(int threshold) {
+    return statementCounts.entrySet().stream()
+        .filter(entry -> entry.getValue() >= threshold)
+        .toList();
+  }
+}
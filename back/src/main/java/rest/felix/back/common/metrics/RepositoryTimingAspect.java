@@ -0,0 +1,39 @@
+package rest.felix.back.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@AllArgsConstructor
+public class RepositoryTimingAspect {
+
+  private final MeterRegistry meterRegistry;
+
+  @Around("within(@org.springframework.stereotype.Repository rest.felix.back..*)")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String exception = "none";
+
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable throwable) {
+      exception = throwable.getClass().getSimpleName();
+      throw throwable;
+    } finally {
+      sample.stop(
+          Timer.builder("repository.method")
+              .description("Time spent in repository methods")
+              .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+              .tag("method", joinPoint.getSignature().getName())
+              .tag("exception", exception)
+              .publishPercentileHistogram()
+              .register(meterRegistry));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package rest.felix.back.common.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Component
+public class RequestMetrics {
+
+  public static final String QUERY_STATISTICS = RequestMetrics.class.getName() + ".queryStatistics";
+  public static final String GROUP_SIZE = RequestMetrics.class.getName() + ".groupSize";
+  public static final String UNKNOWN = "unknown";
+
+  public void recordQuery(String sql) {
+    currentRequest()
+        .ifPresent(
+            attributes -> {
+              QueryStatistics queryStatistics =
+                  (QueryStatistics)
+                      attributes.getAttribute(QUERY_STATISTICS, RequestAttributes.SCOPE_REQUEST);
+
+              if (queryStatistics == null) {
+                queryStatistics = new QueryStatistics();
+                attributes.setAttribute(
+                    QUERY_STATISTICS, queryStatistics, RequestAttributes.SCOPE_REQUEST);
+              }
+
+              queryStatistics.record(sql);
+            });
+  }
+
+  public void recordGroupSize(int todoCount) {
+    currentRequest()
+        .ifPresent(
+            attributes ->
+                attributes.setAttribute(
+                    GROUP_SIZE, groupSizeBucket(todoCount), RequestAttributes.SCOPE_REQUEST));
+  }
+
+  public static QueryStatistics queryStatistics(HttpServletRequest request) {
+    return Optional.ofNullable((QueryStatistics) request.getAttribute(QUERY_STATISTICS))
+        .orElseGet(QueryStatistics::new);
+  }
+
+  public static String groupSize(HttpServletRequest request) {
+    return Optional.ofNullable((String) request.getAttribute(GROUP_SIZE)).orElse(UNKNOWN);
+  }
+
+  static String groupSizeBucket(int todoCount) {
+    if (todoCount < 10) {
+      return "0-9";
+    }
+    if (todoCount < 100) {
+      return "10-99";
+    }
+    if (todoCount < 1000) {
+      return "100-999";
+    }
+    return "1000+";
+  }
+
+  private Optional<RequestAttributes> currentRequest() {
+    return Optional.ofNullable(RequestContextHolder.getRequestAttributes());
+  }
+}
@@ -0,0 +1,81 @@
+package rest.felix.back.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Slf4j
+@Component
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+  private final MeterRegistry meterRegistry;
+  private final int queryBudget;
+  private final int repeatedStatementThreshold;
+
+  public RequestMetricsInterceptor(
+      MeterRegistry meterRegistry,
+      @Value("${metrics.query_budget.per_request}") int queryBudget,
+      @Value("${metrics.query_budget.repeated_statement_threshold}")
+          int repeatedStatementThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.queryBudget = queryBudget;
+    this.repeatedStatementThreshold = repeatedStatementThreshold;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    String uri =
+        Optional.ofNullable(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+            .map(Object::toString)
+            .orElse(RequestMetrics.UNKNOWN);
+    QueryStatistics queryStatistics = RequestMetrics.queryStatistics(request);
+
+    DistributionSummary.builder("http.server.requests.queries")
+        .description("SQL statements executed per HTTP request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .tag("group.size", RequestMetrics.groupSize(request))
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(queryStatistics.getCount());
+
+    if (queryStatistics.getCount() > queryBudget) {
+      meterRegistry
+          .counter(
+              "http.server.requests.query_budget_exceeded",
+              "method",
+              request.getMethod(),
+              "uri",
+              uri)
+          .increment();
+      log.warn(
+          "{} {} executed {} SQL statements, over the budget of {}",
+          request.getMethod(),
+          uri,
+          queryStatistics.getCount(),
+          queryBudget);
+    }
+
+    for (Map.Entry<String, Integer> repeated :
+        queryStatistics.repeatedStatements(repeatedStatementThreshold)) {
+      meterRegistry
+          .counter("http.server.requests.n_plus_one", "method", request.getMethod(), "uri", uri)
+          .increment();
+      log.warn(
+          "Possible N+1 in {} {}: statement executed {} times: {}",
+          request.getMethod(),
+          uri,
+          repeated.getValue(),
+          repeated.getKey());
+    }
+  }
+}
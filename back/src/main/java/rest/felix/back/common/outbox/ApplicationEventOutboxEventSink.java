@@ -0,0 +1,15 @@
+package rest.felix.back.common.outbox;
+
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@AllArgsConstructor
+public class ApplicationEventOutboxEventSink implements OutboxEventSink {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  @Override
+  public void deliver(OutboxEventDTO outboxEventDTO) {
+    applicationEventPublisher.publishEvent(outboxEventDTO);
+  }
+}
@@ -0,0 +1,48 @@
+package rest.felix.back.common.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+
+@ToString
+@Getter
+@Setter
+@Entity
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Setter(AccessLevel.NONE)
+  private Long id;
+
+  @Column(nullable = false, length = 50)
+  @Enumerated(EnumType.STRING)
+  private OutboxEventType eventType;
+
+  @Column(nullable = false)
+  private Long groupId;
+
+  @Column(nullable = false)
+  private Long aggregateId;
+
+  @Column(nullable = false, length = 4000)
+  private String payload;
+
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Setter(AccessLevel.NONE)
+  private int attempts = 0;
+
+  @CreationTimestamp private ZonedDateTime createdAt;
+}
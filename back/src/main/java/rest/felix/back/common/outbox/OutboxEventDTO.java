@@ -0,0 +1,30 @@
+package rest.felix.back.common.outbox;
+
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxEventDTO {
+
+  private final long id;
+  private final OutboxEventType eventType;
+  private final long groupId;
+  private final long aggregateId;
+  private final String payload;
+  private final int attempts;
+  private final ZonedDateTime createdAt;
+
+  public static OutboxEventDTO of(OutboxEvent outboxEvent) {
+    return new OutboxEventDTO(
+        outboxEvent.getId(),
+        outboxEvent.getEventType(),
+        outboxEvent.getGroupId(),
+        outboxEvent.getAggregateId(),
+        outboxEvent.getPayload(),
+        outboxEvent.getAttempts(),
+        outboxEvent.getCreatedAt());
+  }
+}
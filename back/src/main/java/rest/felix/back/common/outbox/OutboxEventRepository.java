@@ -0,0 +1,91 @@
+package rest.felix.back.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.UncheckedIOException;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@AllArgsConstructor
+public class OutboxEventRepository {
+
+  private final EntityManager em;
+  private final ObjectMapper objectMapper;
+
+  public void append(OutboxEventType eventType, long groupId, long aggregateId, Object payload) {
+    OutboxEvent outboxEvent = new OutboxEvent();
+    outboxEvent.setEventType(eventType);
+    outboxEvent.setGroupId(groupId);
+    outboxEvent.setAggregateId(aggregateId);
+
+    try {
+      outboxEvent.setPayload(objectMapper.writeValueAsString(payload));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    em.persist(outboxEvent);
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<OutboxEventDTO> claimBatch(int size, int maxAttempts) {
+    List<OutboxEvent> outboxEvents =
+        em.createNativeQuery(
+                """
+            SELECT
+                *
+            FROM
+                "outbox_event"
+            WHERE
+                "attempts" < :maxAttempts
+            ORDER BY
+                "id" ASC
+            LIMIT :size
+            FOR UPDATE SKIP LOCKED
+            """,
+                OutboxEvent.class)
+            .setParameter("size", size)
+            .setParameter("maxAttempts", maxAttempts)
+            .getResultList();
+
+    return outboxEvents.stream().map(OutboxEventDTO::of).toList();
+  }
+
+  public void deleteByIds(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    em.createQuery(
+            """
+        DELETE
+        FROM
+            OutboxEvent o
+        WHERE
+            o.id IN :ids
+        """)
+        .setParameter("ids", ids)
+        .executeUpdate();
+  }
+
+  public void recordFailedAttempts(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    em.createQuery(
+            """
+        UPDATE
+            OutboxEvent o
+        SET
+            o.attempts = o.attempts + 1
+        WHERE
+            o.id IN :ids
+        """)
+        .setParameter("ids", ids)
+        .executeUpdate();
+  }
+}
@@ -0,0 +1,6 @@
+package rest.felix.back.common.outbox;
+
+public interface OutboxEventSink {
+
+  void deliver(OutboxEventDTO outboxEventDTO);
+}
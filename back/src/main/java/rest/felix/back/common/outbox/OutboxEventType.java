@@ -0,0 +1,7 @@
+package rest.felix.back.common.outbox;
+
+public enum OutboxEventType {
+  TODO_CREATED,
+  TODO_UPDATED,
+  TODO_DELETED
+}
@@ -0,0 +1,86 @@
+package rest.felix.back.common.outbox;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class OutboxRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxEventSink outboxEventSink;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxAttempts;
+
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      OutboxEventSink outboxEventSink,
+      TransactionTemplate transactionTemplate,
+      @Value("${outbox.batch_size}") int batchSize,
+      @Value("${outbox.max_attempts}") int maxAttempts) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.outboxEventSink = outboxEventSink;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.poll_interval_ms}")
+  public void poll() {
+    try {
+      while (relayBatch() == batchSize) {}
+    } catch (RuntimeException e) {
+      log.warn("Failed to relay outbox events", e);
+    }
+  }
+
+  public int relayBatch() {
+    return transactionTemplate.execute(
+        status -> {
+          List<Long> delivered = new ArrayList<>();
+          List<Long> failed = new ArrayList<>();
+          Set<Long> blockedAggregateIds = new HashSet<>();
+
+          for (OutboxEventDTO outboxEventDTO :
+              outboxEventRepository.claimBatch(batchSize, maxAttempts)) {
+            // A failed event holds back later events of the same aggregate to keep their order.
+            if (blockedAggregateIds.contains(outboxEventDTO.getAggregateId())) {
+              continue;
+            }
+
+            try {
+              outboxEventSink.deliver(outboxEventDTO);
+            } catch (RuntimeException e) {
+              if (outboxEventDTO.getAttempts() + 1 >= maxAttempts) {
+                log.error(
+                    "Giving up on outbox event {} after {} attempts",
+                    outboxEventDTO.getId(),
+                    maxAttempts,
+                    e);
+              } else {
+                log.warn("Failed to deliver outbox event {}", outboxEventDTO.getId(), e);
+              }
+
+              failed.add(outboxEventDTO.getId());
+              blockedAggregateIds.add(outboxEventDTO.getAggregateId());
+              continue;
+            }
+
+            delivered.add(outboxEventDTO.getId());
+          }
+
+          outboxEventRepository.deleteByIds(delivered);
+          outboxEventRepository.recordFailedAttempts(failed);
+
+          return delivered.size();
+        });
+  }
+}
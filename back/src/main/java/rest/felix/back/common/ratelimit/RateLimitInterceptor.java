@@ -0,0 +1,44 @@
+package rest.felix.back.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.security.Principal;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@AllArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  private static final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  private final RateLimiter rateLimiter;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    for (RateLimitProperties.Rule rule : rateLimiter.getRules()) {
+      if (rule.path() == null
+          || !rule.methods().contains(request.getMethod())
+          || !pathMatcher.match(rule.path(), request.getRequestURI())) {
+        continue;
+      }
+
+      String key =
+          switch (rule.key()) {
+            case IP -> request.getRemoteAddr();
+            case USER ->
+                Optional.ofNullable(request.getUserPrincipal())
+                    .map(Principal::getName)
+                    .orElse(null);
+          };
+
+      rateLimiter.acquire(rule, key);
+    }
+
+    return true;
+  }
+}
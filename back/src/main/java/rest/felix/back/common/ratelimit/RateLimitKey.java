@@ -0,0 +1,6 @@
+package rest.felix.back.common.ratelimit;
+
+public enum RateLimitKey {
+  IP,
+  USER
+}
@@ -0,0 +1,25 @@
+package rest.felix.back.common.ratelimit;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(boolean enabled, List<Rule> rules) {
+
+  public RateLimitProperties {
+    rules = rules == null ? List.of() : rules;
+  }
+
+  public record Rule(
+      String name,
+      List<String> methods,
+      String path,
+      RateLimitKey key,
+      long capacity,
+      double refillPerSecond) {
+
+    public Rule {
+      methods = methods == null ? List.of() : methods;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package rest.felix.back.common.ratelimit;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rest.felix.back.common.exception.throwable.toomanyrequests.RateLimitExceededException;
+
+@Component
+public class RateLimiter {
+
+  private final boolean enabled;
+  private final Map<String, RateLimitProperties.Rule> rules;
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+  public RateLimiter(RateLimitProperties rateLimitProperties) {
+    this.enabled = rateLimitProperties.enabled();
+    this.rules =
+        rateLimitProperties.rules().stream()
+            .collect(Collectors.toMap(RateLimitProperties.Rule::name, Function.identity()));
+  }
+
+  public Iterable<RateLimitProperties.Rule> getRules() {
+    return rules.values();
+  }
+
+  public void acquire(String ruleName, String key) {
+    if (!enabled || key == null) {
+      return;
+    }
+
+    Optional.ofNullable(rules.get(ruleName)).ifPresent(rule -> acquire(rule, key));
+  }
+
+  public void acquire(RateLimitProperties.Rule rule, String key) {
+    if (!enabled || key == null) {
+      return;
+    }
+
+    long now = System.nanoTime();
+    long waitNanos =
+        buckets
+            .computeIfAbsent(
+                rule.name() + ":" + key,
+                ignored -> new TokenBucket(rule.capacity(), rule.refillPerSecond(), now))
+            .tryConsume(now);
+
+    if (waitNanos > 0) {
+      throw new RateLimitExceededException(
+          Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+    }
+  }
+
+  @Scheduled(fixedDelay = 60_000)
+  public void evictFullBuckets() {
+    long now = System.nanoTime();
+    buckets.values().removeIf(bucket -> bucket.isFull(now));
+  }
+}
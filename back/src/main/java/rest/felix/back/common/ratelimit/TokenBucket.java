@@ -0,0 +1,42 @@
+package rest.felix.back.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TokenBucket {
+
+  private record State(double tokens, long refilledAtNanos) {}
+
+  private final long capacity;
+  private final double tokensPerNano;
+  private final AtomicReference<State> state;
+
+  public TokenBucket(long capacity, double tokensPerSecond, long nowNanos) {
+    this.capacity = capacity;
+    this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+    this.state = new AtomicReference<>(new State(capacity, nowNanos));
+  }
+
+  public long tryConsume(long nowNanos) {
+    while (true) {
+      State current = state.get();
+      double available = available(current, nowNanos);
+
+      if (available < 1) {
+        return (long) Math.ceil((1 - available) / tokensPerNano);
+      }
+
+      if (state.compareAndSet(current, new State(available - 1, nowNanos))) {
+        return 0;
+      }
+    }
+  }
+
+  public boolean isFull(long nowNanos) {
+    return available(state.get(), nowNanos) >= capacity;
+  }
+
+  private double available(State current, long nowNanos) {
+    long elapsedNanos = Math.max(0, nowNanos - current.refilledAtNanos());
+    return Math.min(capacity, current.tokens() + elapsedNanos * tokensPerNano);
+  }
+}
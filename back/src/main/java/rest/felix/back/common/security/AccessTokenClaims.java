@@ -0,0 +1,5 @@
+package rest.felix.back.common.security;
+
+import java.time.Instant;
+
+public record AccessTokenClaims(String username, String tokenId, Instant expiresAt) {}
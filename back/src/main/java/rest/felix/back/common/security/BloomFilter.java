@@ -0,0 +1,60 @@
+package rest.felix.back.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final int bitCount;
+  private final int hashCount;
+
+  public BloomFilter(int expectedEntries, double falsePositiveRate) {
+    int entries = Math.max(1, expectedEntries);
+    this.bitCount =
+        (int)
+            Math.max(
+                64,
+                Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+    this.bits = new AtomicLongArray((bitCount + 63) / 64);
+  }
+
+  public void add(String value) {
+    long hash = hash(value);
+    int first = (int) hash;
+    int second = (int) (hash >>> 32);
+
+    for (int idx = 0; idx < hashCount; idx++) {
+      int bit = Math.floorMod(first + idx * second, bitCount);
+      long mask = 1L << (bit & 63);
+      bits.getAndUpdate(bit >>> 6, word -> word | mask);
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash(value);
+    int first = (int) hash;
+    int second = (int) (hash >>> 32);
+
+    for (int idx = 0; idx < hashCount; idx++) {
+      int bit = Math.floorMod(first + idx * second, bitCount);
+      if ((bits.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -1,5 +1,7 @@
 package rest.felix.back.common.security;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -20,27 +22,34 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
+  private final TokenRevocationList tokenRevocationList;
+  private final ObservationRegistry observationRegistry;
 
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
 
-    Optional.ofNullable(request.getCookies())
-        .flatMap(
-            cookies ->
-                Arrays.stream(cookies)
-                    .filter(cookie -> "accessToken".equals(cookie.getName()))
-                    .findFirst())
-        .map(Cookie::getValue)
-        .filter(jwtTokenProvider::validateToken)
-        .map(jwtTokenProvider::getUsernameFromToken)
-        .ifPresent(
-            username ->
-                SecurityContextHolder.getContext()
-                    .setAuthentication(
-                        new UsernamePasswordAuthenticationToken(
-                            username, null, new ArrayList<>())));
+    Observation.createNotStarted("app.filter", observationRegistry)
+        .contextualName("JwtAuthenticationFilter.authenticate")
+        .observe(
+            () ->
+                Optional.ofNullable(request.getCookies())
+                    .flatMap(
+                        cookies ->
+                            Arrays.stream(cookies)
+                                .filter(cookie -> "accessToken".equals(cookie.getName()))
+                                .findFirst())
+                    .map(Cookie::getValue)
+                    .flatMap(jwtTokenProvider::parseToken)
+                    .filter(claims -> !tokenRevocationList.isRevoked(claims.tokenId()))
+                    .map(AccessTokenClaims::username)
+                    .ifPresent(
+                        username ->
+                            SecurityContextHolder.getContext()
+                                .setAuthentication(
+                                    new UsernamePasswordAuthenticationToken(
+                                        username, null, new ArrayList<>()))));
 
     filterChain.doFilter(request, response);
   }
@@ -0,0 +1,177 @@
+package rest.felix.back.common.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtKeyRing {
+
+  public static final String LEGACY_KEY_ID = "hs512";
+
+  private final List<SigningKey> keys;
+  private final Map<String, SigningKey> keysById;
+
+  public JwtKeyRing(
+      JwtKeyRingProperties properties, @Value("${jwt.access_token.secret_key:}") String secretKey) {
+
+    List<SigningKey> configured = new ArrayList<>();
+
+    if (!secretKey.isBlank()) {
+      Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+      configured.add(
+          new SigningKey(
+              LEGACY_KEY_ID,
+              SignatureAlgorithm.HS512,
+              key,
+              Jwts.parserBuilder().setSigningKey(key).build(),
+              Instant.EPOCH,
+              null,
+              null));
+    }
+
+    properties.keys().stream()
+        .filter(key -> key.publicKey() != null && !key.publicKey().isBlank())
+        .sorted(Comparator.comparing(JwtKeyRingProperties.Key::activatedAt))
+        .map(JwtKeyRing::ecSigningKey)
+        .forEach(configured::add);
+
+    if (configured.stream().allMatch(key -> key.signingKey() == null)) {
+      throw new IllegalStateException(
+          "No JWT signing key is configured, set JWT_PRIVATE_KEY/JWT_PUBLIC_KEY or JWT_SECRET_KEY.");
+    }
+
+    configured.sort(Comparator.comparing(SigningKey::activatedAt));
+
+    List<SigningKey> keys = new ArrayList<>();
+    for (int i = 0; i < configured.size(); i++) {
+      Instant retiresAt =
+          i + 1 < configured.size()
+              ? configured.get(i + 1).activatedAt().plus(properties.overlap())
+              : null;
+      keys.add(configured.get(i).retiringAt(retiresAt));
+    }
+
+    this.keys = List.copyOf(keys);
+    this.keysById =
+        keys.stream().collect(Collectors.toUnmodifiableMap(SigningKey::kid, Function.identity()));
+  }
+
+  public SigningKey signingKey(Instant now) {
+    SigningKey signingKey = null;
+
+    for (SigningKey key : keys) {
+      if (key.signingKey() != null && !key.activatedAt().isAfter(now)) {
+        signingKey = key;
+      }
+    }
+
+    if (signingKey == null) {
+      throw new IllegalStateException("No JWT signing key is active.");
+    }
+    return signingKey;
+  }
+
+  public Optional<JwtParser> verifier(String kid, Instant now) {
+    return Optional.ofNullable(keysById.get(kid == null ? LEGACY_KEY_ID : kid))
+        .filter(key -> key.isAcceptedAt(now))
+        .map(SigningKey::parser);
+  }
+
+  public List<Map<String, String>> jwks(Instant now) {
+    return keys.stream()
+        .filter(key -> key.jwk() != null && key.isAcceptedAt(now))
+        .map(SigningKey::jwk)
+        .toList();
+  }
+
+  private static SigningKey ecSigningKey(JwtKeyRingProperties.Key key) {
+    try {
+      KeyFactory keyFactory = KeyFactory.getInstance("EC");
+      ECPublicKey publicKey =
+          (ECPublicKey)
+              keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(key.publicKey())));
+
+      if (publicKey.getParams().getCurve().getField().getFieldSize() != 256) {
+        throw new IllegalStateException("JWT key " + key.kid() + " is not a P-256 key.");
+      }
+
+      Key privateKey =
+          key.privateKey() == null || key.privateKey().isBlank()
+              ? null
+              : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(key.privateKey())));
+
+      Map<String, String> jwk = new LinkedHashMap<>();
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+      jwk.put("use", "sig");
+      jwk.put("kid", key.kid());
+      jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+      jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+
+      return new SigningKey(
+          key.kid(),
+          SignatureAlgorithm.ES256,
+          privateKey,
+          Jwts.parserBuilder().setSigningKey(publicKey).build(),
+          key.activatedAt(),
+          null,
+          Map.copyOf(jwk));
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalStateException("JWT key " + key.kid() + " could not be loaded.", e);
+    }
+  }
+
+  private static byte[] decodePem(String pem) {
+    return Base64.getMimeDecoder()
+        .decode(pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", ""));
+  }
+
+  private static String coordinate(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    byte[] padded = new byte[32];
+    int length = Math.min(bytes.length, 32);
+    System.arraycopy(bytes, bytes.length - length, padded, 32 - length, length);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(padded);
+  }
+
+  public record SigningKey(
+      String kid,
+      SignatureAlgorithm algorithm,
+      Key signingKey,
+      JwtParser parser,
+      Instant activatedAt,
+      Instant retiresAt,
+      Map<String, String> jwk) {
+
+    private SigningKey retiringAt(Instant retiresAt) {
+      return new SigningKey(kid, algorithm, signingKey, parser, activatedAt, retiresAt, jwk);
+    }
+
+    private boolean isAcceptedAt(Instant now) {
+      return retiresAt == null || now.isBefore(retiresAt);
+    }
+  }
+}
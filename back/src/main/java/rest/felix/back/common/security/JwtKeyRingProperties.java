@@ -0,0 +1,22 @@
+package rest.felix.back.common.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("jwt.key-ring")
+public record JwtKeyRingProperties(Duration overlap, List<Key> keys) {
+
+  public JwtKeyRingProperties {
+    overlap = overlap == null ? Duration.ZERO : overlap;
+    keys = keys == null ? List.of() : keys;
+  }
+
+  public record Key(String kid, String privateKey, String publicKey, Instant activatedAt) {
+
+    public Key {
+      activatedAt = activatedAt == null ? Instant.EPOCH : activatedAt;
+    }
+  }
+}
@@ -1,38 +1,102 @@
 package rest.felix.back.common.security;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenProvider {
 
-  @Value("${jwt.access_token.secret_key}")
-  private String secretKey;
+  private static final ObjectMapper objectMapper = new ObjectMapper();
 
-  @Value("${jwt.access_token.ttl}")
-  private long expirationTime;
+  private final JwtKeyRing jwtKeyRing;
+  private final long expirationTime;
+
+  public JwtTokenProvider(
+      JwtKeyRing jwtKeyRing, @Value("${jwt.access_token.ttl}") long expirationTime) {
+    this.jwtKeyRing = jwtKeyRing;
+    this.expirationTime = expirationTime;
+  }
+
+  public long getExpirationTime() {
+    return expirationTime;
+  }
 
   public String generateToken(String username) {
+    Instant now = Instant.now();
+    JwtKeyRing.SigningKey signingKey = jwtKeyRing.signingKey(now);
+
     return Jwts.builder()
+        .setHeaderParam("kid", signingKey.kid())
         .setSubject(username)
-        .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-        .signWith(SignatureAlgorithm.HS512, secretKey)
+        .setId(UUID.randomUUID().toString())
+        .setExpiration(Date.from(now.plusMillis(expirationTime)))
+        .signWith(signingKey.signingKey(), signingKey.algorithm())
         .compact();
   }
 
   public String getUsernameFromToken(String token) {
-    return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+    return parseClaims(token).getSubject();
   }
 
   public boolean validateToken(String token) {
     try {
-      Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
+      parseClaims(token);
       return true;
     } catch (Exception e) {
       return false;
     }
   }
+
+  public Optional<AccessTokenClaims> parseToken(String token) {
+    try {
+      Claims claims = parseClaims(token);
+
+      return Optional.of(
+          new AccessTokenClaims(
+              claims.getSubject(), claims.getId(), claims.getExpiration().toInstant()));
+    } catch (Exception e) {
+      return Optional.empty();
+    }
+  }
+
+  private Claims parseClaims(String token) {
+    Claims claims =
+        jwtKeyRing
+            .verifier(keyId(token), Instant.now())
+            .orElseThrow(() -> new JwtException("Token is signed with an unknown or retired key."))
+            .parseClaimsJws(token)
+            .getBody();
+
+    // Tokens issued before jti was introduced cannot be revoked, so they are not accepted either.
+    if (claims.getId() == null) {
+      throw new JwtException("Token has no id.");
+    }
+    return claims;
+  }
+
+  private static String keyId(String token) {
+    int headerEnd = token.indexOf('.');
+    if (headerEnd < 0) {
+      throw new JwtException("Token is malformed.");
+    }
+
+    try {
+      JsonNode header =
+          objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(0, headerEnd)));
+      return header.path("kid").asText(null);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new JwtException("Token header is malformed.", e);
+    }
+  }
 }
@@ -0,0 +1,76 @@
+package rest.felix.back.common.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rest.felix.back.user.repository.RevokedAccessTokenRepository;
+
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+  private final int expectedEntries;
+  private final Duration syncOverlap;
+  private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+  private volatile BloomFilter bloomFilter;
+  private int bloomFilterCapacity;
+  private volatile ZonedDateTime syncedAt = ZonedDateTime.now().minusYears(1);
+
+  public TokenRevocationList(
+      RevokedAccessTokenRepository revokedAccessTokenRepository,
+      @Value("${jwt.revocation.expected_entries}") int expectedEntries,
+      @Value("${jwt.revocation.sync_interval_ms}") long syncIntervalMillis) {
+    this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+    this.expectedEntries = expectedEntries;
+    this.syncOverlap = Duration.ofMillis(syncIntervalMillis).multipliedBy(2);
+    this.bloomFilter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    this.bloomFilterCapacity = expectedEntries;
+  }
+
+  public boolean isRevoked(String tokenId) {
+    return bloomFilter.mightContain(tokenId) && revoked.containsKey(tokenId);
+  }
+
+  public synchronized void add(String tokenId, Instant expiresAt) {
+    if (revoked.put(tokenId, expiresAt) == null) {
+      bloomFilter.add(tokenId);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.revocation.sync_interval_ms}")
+  public void sync() {
+    ZonedDateTime now = ZonedDateTime.now();
+
+    try {
+      revokedAccessTokenRepository
+          .findRevokedSince(syncedAt.minus(syncOverlap), now)
+          .forEach(token -> add(token.getTokenId(), token.getExpiresAt().toInstant()));
+      syncedAt = now;
+    } catch (RuntimeException e) {
+      log.warn("Failed to sync revoked access tokens", e);
+    }
+
+    purgeExpired(now.toInstant());
+  }
+
+  private synchronized void purgeExpired(Instant now) {
+    boolean purged = revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+
+    if (purged || revoked.size() > bloomFilterCapacity) {
+      bloomFilterCapacity = Math.max(expectedEntries, revoked.size() * 2);
+      BloomFilter rebuilt = new BloomFilter(bloomFilterCapacity, FALSE_POSITIVE_RATE);
+      revoked.keySet().forEach(rebuilt::add);
+      bloomFilter = rebuilt;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package rest.felix.back.common.serialization;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+public class ColumnarJsonHttpMessageConverter extends AbstractHttpMessageConverter<Collection<?>> {
+
+  public static final MediaType COLUMNAR_JSON =
+      MediaType.parseMediaType("application/vnd.felix.columnar");
+
+  private final ObjectMapper objectMapper;
+  private final Map<Class<?>, RecordComponent[]> recordComponents = new ConcurrentHashMap<>();
+
+  public ColumnarJsonHttpMessageConverter(ObjectMapper objectMapper) {
+    super(COLUMNAR_JSON);
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return Collection.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected Collection<?> readInternal(
+      Class<? extends Collection<?>> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Columnar JSON is a response-only representation.", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(Collection<?> rows, HttpOutputMessage outputMessage)
+      throws IOException {
+
+    try (JsonGenerator generator =
+        objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+
+      Object first = rows.isEmpty() ? null : rows.iterator().next();
+
+      generator.writeStartObject();
+      if (first != null && first.getClass().isRecord()) {
+        writeRecords(generator, rows, components(first.getClass()));
+      } else {
+        writeNodes(generator, rows);
+      }
+      generator.writeEndObject();
+    }
+  }
+
+  private void writeRecords(
+      JsonGenerator generator, Collection<?> rows, RecordComponent[] components)
+      throws IOException {
+
+    generator.writeArrayFieldStart("columns");
+    for (RecordComponent component : components) {
+      generator.writeString(component.getName());
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("rows");
+    for (Object row : rows) {
+      generator.writeStartArray();
+      for (RecordComponent component : components) {
+        generator.writeObject(value(component, row));
+      }
+      generator.writeEndArray();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeNodes(JsonGenerator generator, Collection<?> rows) throws IOException {
+    List<JsonNode> nodes = new ArrayList<>(rows.size());
+    rows.forEach(row -> nodes.add(objectMapper.valueToTree(row)));
+
+    List<String> columns = new ArrayList<>();
+    if (!nodes.isEmpty()) {
+      Iterator<String> fieldNames = nodes.get(0).fieldNames();
+      fieldNames.forEachRemaining(columns::add);
+    }
+
+    generator.writeArrayFieldStart("columns");
+    for (String column : columns) {
+      generator.writeString(column);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("rows");
+    for (JsonNode node : nodes) {
+      generator.writeStartArray();
+      for (String column : columns) {
+        generator.writeTree(node.get(column));
+      }
+      generator.writeEndArray();
+    }
+    generator.writeEndArray();
+  }
+
+  private RecordComponent[] components(Class<?> recordClass) {
+    return recordComponents.computeIfAbsent(
+        recordClass,
+        clazz -> {
+          RecordComponent[] components = clazz.getRecordComponents();
+          for (RecordComponent component : components) {
+            component.getAccessor().setAccessible(true);
+          }
+          return components;
+        });
+  }
+
+  private static Object value(RecordComponent component, Object row) {
+    try {
+      return component.getAccessor().invoke(row);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new HttpMessageNotWritableException(
+          "Could not read " + component.getName() + " of " + row.getClass().getSimpleName(), e);
+    }
+  }
+}
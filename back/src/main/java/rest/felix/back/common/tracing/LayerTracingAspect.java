@@ -0,0 +1,43 @@
+package rest.felix.back.common.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@AllArgsConstructor
+public class LayerTracingAspect {
+
+  private final ObservationRegistry observationRegistry;
+
+  @Around("within(@org.springframework.web.bind.annotation.RestController rest.felix.back..*)")
+  public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+    return observe(joinPoint, "controller");
+  }
+
+  @Around("within(@org.springframework.stereotype.Service rest.felix.back..*)")
+  public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+    return observe(joinPoint, "service");
+  }
+
+  @Around("within(@org.springframework.stereotype.Repository rest.felix.back..*)")
+  public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return observe(joinPoint, "repository");
+  }
+
+  private Object observe(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+    String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+    String methodName = joinPoint.getSignature().getName();
+
+    return Observation.createNotStarted("app." + layer, observationRegistry)
+        .contextualName(className + "." + methodName)
+        .lowCardinalityKeyValue("class", className)
+        .lowCardinalityKeyValue("method", methodName)
+        .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+  }
+}
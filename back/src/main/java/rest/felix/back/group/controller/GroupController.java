@@ -4,23 +4,37 @@ import jakarta.validation.Valid;
 import java.security.Principal;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import rest.felix.back.common.exception.throwable.badrequest.BadRequestException;
+import rest.felix.back.common.exception.throwable.badrequest.OwnerRoleAssignmentException;
 import rest.felix.back.common.exception.throwable.forbidden.UserAccessDeniedException;
 import rest.felix.back.common.exception.throwable.unauthorized.NoMatchingUserException;
 import rest.felix.back.group.dto.CreateGroupDTO;
 import rest.felix.back.group.dto.CreateGroupRequestDTO;
 import rest.felix.back.group.dto.GroupDTO;
+import rest.felix.back.group.dto.GroupMemberDTO;
+import rest.felix.back.group.dto.GroupMembersResponseDTO;
+import rest.felix.back.group.dto.GroupMembersResultDTO;
+import rest.felix.back.group.dto.GroupPageDTO;
+import rest.felix.back.group.dto.GroupPageResponseDTO;
 import rest.felix.back.group.dto.GroupResponseDTO;
+import rest.felix.back.group.dto.GroupSort;
+import rest.felix.back.group.dto.RemoveGroupMembersRequestDTO;
+import rest.felix.back.group.dto.UpsertGroupMembersRequestDTO;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.service.GroupService;
+import rest.felix.back.todo.dto.GroupTodoStatsResponseDTO;
 import rest.felix.back.user.dto.UserDTO;
 import rest.felix.back.user.service.UserService;
 
@@ -69,6 +83,51 @@ public class GroupController {
     return ResponseEntity.status(HttpStatus.OK).body(groupResponseDTOS);
   }
 
+  @GetMapping("/page")
+  public ResponseEntity<GroupPageResponseDTO> getUserGroupPage(
+      Principal principal,
+      @RequestParam(name = "sort", defaultValue = "NAME") GroupSort sort,
+      @RequestParam(name = "direction", required = false) Direction direction,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+    if (size < 1 || size > 200) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+
+    String username = principal.getName();
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    GroupPageDTO groupPageDTO =
+        groupService.getGroupPageByUserId(userId, sort, direction, cursor, size);
+
+    List<GroupResponseDTO> groupResponseDTOs =
+        groupPageDTO.getGroups().stream()
+            .map(
+                groupDTO ->
+                    new GroupResponseDTO(
+                        groupDTO.getId(), groupDTO.getName(), groupDTO.getDescription()))
+            .toList();
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(new GroupPageResponseDTO(groupResponseDTOs, groupPageDTO.getNextCursor()));
+  }
+
+  @GetMapping("/stats")
+  public ResponseEntity<List<GroupTodoStatsResponseDTO>> getUserGroupTodoStats(
+      Principal principal) {
+    String username = principal.getName();
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    List<GroupTodoStatsResponseDTO> groupTodoStatsResponseDTOs =
+        groupService.getTodoStatsByUserId(userId).stream()
+            .map(GroupTodoStatsResponseDTO::of)
+            .toList();
+
+    return ResponseEntity.status(HttpStatus.OK).body(groupTodoStatsResponseDTOs);
+  }
+
   @GetMapping("/{groupId}")
   public ResponseEntity<GroupResponseDTO> getUserGroup(
       Principal principal, @PathVariable(name = "groupId") long groupId) {
@@ -99,8 +158,70 @@ public class GroupController {
       throw new UserAccessDeniedException();
     }
 
-    groupService.deleteGroupById(groupId);
+    groupService.deleteGroupById(groupId, userId);
 
     return ResponseEntity.noContent().build();
   }
+
+  @PutMapping("/{groupId}/member")
+  public ResponseEntity<GroupMembersResponseDTO> upsertGroupMembers(
+      Principal principal,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestBody @Valid UpsertGroupMembersRequestDTO upsertGroupMembersRequestDTO) {
+    String username = principal.getName();
+
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    GroupRole groupRole = groupService.getUserRoleInGroup(userId, groupId);
+
+    if (groupRole != GroupRole.OWNER && groupRole != GroupRole.MANAGER) {
+      throw new UserAccessDeniedException();
+    }
+
+    List<GroupMemberDTO> groupMemberDTOs =
+        upsertGroupMembersRequestDTO.getMembers().stream()
+            .map(member -> new GroupMemberDTO(member.getUsername(), member.getGroupRole()))
+            .toList();
+
+    if (groupMemberDTOs.stream().anyMatch(member -> member.getGroupRole() == GroupRole.OWNER)) {
+      throw new OwnerRoleAssignmentException();
+    }
+
+    if (groupRole == GroupRole.MANAGER
+        && groupMemberDTOs.stream()
+            .anyMatch(member -> member.getGroupRole() == GroupRole.MANAGER)) {
+      throw new UserAccessDeniedException();
+    }
+
+    GroupMembersResultDTO groupMembersResultDTO =
+        groupService.upsertMembers(groupId, userId, groupRole, groupMemberDTOs);
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(GroupMembersResponseDTO.of(groupMembersResultDTO));
+  }
+
+  @DeleteMapping("/{groupId}/member")
+  public ResponseEntity<GroupMembersResponseDTO> removeGroupMembers(
+      Principal principal,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestBody @Valid RemoveGroupMembersRequestDTO removeGroupMembersRequestDTO) {
+    String username = principal.getName();
+
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    GroupRole groupRole = groupService.getUserRoleInGroup(userId, groupId);
+
+    if (groupRole != GroupRole.OWNER && groupRole != GroupRole.MANAGER) {
+      throw new UserAccessDeniedException();
+    }
+
+    GroupMembersResultDTO groupMembersResultDTO =
+        groupService.removeMembers(
+            groupId, userId, groupRole, removeGroupMembersRequestDTO.getUsernames());
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(GroupMembersResponseDTO.of(groupMembersResultDTO));
+  }
 }
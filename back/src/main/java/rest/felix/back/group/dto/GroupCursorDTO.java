@@ -0,0 +1,33 @@
+package rest.felix.back.group.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rest.felix.back.common.exception.throwable.badrequest.BadRequestException;
+
+@Getter
+@AllArgsConstructor
+public class GroupCursorDTO {
+
+  private final String sortValue;
+  private final long id;
+
+  public static GroupCursorDTO decode(String cursor) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = decoded.lastIndexOf('|');
+
+      return new GroupCursorDTO(
+          decoded.substring(0, separator), Long.parseLong(decoded.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((sortValue + "|" + id).getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,13 @@
+package rest.felix.back.group.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+
+@Getter
+@AllArgsConstructor
+public class GroupMemberDTO {
+
+  private final String username;
+  private final GroupRole groupRole;
+}
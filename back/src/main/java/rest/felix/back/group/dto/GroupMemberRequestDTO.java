@@ -0,0 +1,15 @@
+package rest.felix.back.group.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+
+@Getter
+@AllArgsConstructor
+public class GroupMemberRequestDTO {
+
+  @NotNull private String username;
+
+  @NotNull private GroupRole groupRole;
+}
@@ -0,0 +1,10 @@
+package rest.felix.back.group.dto;
+
+import java.util.List;
+
+public record GroupMembersResponseDTO(int affectedCount, List<String> unknownUsernames) {
+  public static GroupMembersResponseDTO of(GroupMembersResultDTO groupMembersResultDTO) {
+    return new GroupMembersResponseDTO(
+        groupMembersResultDTO.getAffectedCount(), groupMembersResultDTO.getUnknownUsernames());
+  }
+}
@@ -0,0 +1,13 @@
+package rest.felix.back.group.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GroupMembersResultDTO {
+
+  private final int affectedCount;
+  private final List<String> unknownUsernames;
+}
@@ -0,0 +1,5 @@
+package rest.felix.back.group.dto;
+
+import java.util.List;
+
+public record GroupPageResponseDTO(List<GroupResponseDTO> groups, String nextCursor) {}
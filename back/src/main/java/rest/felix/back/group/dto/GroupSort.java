@@ -0,0 +1,15 @@
+package rest.felix.back.group.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort.Direction;
+
+@Getter
+@AllArgsConstructor
+public enum GroupSort {
+  NAME(Direction.ASC),
+  CREATED_AT(Direction.DESC),
+  LAST_ACTIVITY(Direction.DESC);
+
+  private final Direction defaultDirection;
+}
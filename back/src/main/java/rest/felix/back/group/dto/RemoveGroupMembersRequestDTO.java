@@ -0,0 +1,18 @@
+package rest.felix.back.group.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemoveGroupMembersRequestDTO {
+
+  @NotNull
+  @Size(min = 1, max = 1000)
+  private List<@NotNull String> usernames;
+}
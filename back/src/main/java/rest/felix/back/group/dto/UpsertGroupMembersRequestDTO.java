@@ -0,0 +1,19 @@
+package rest.felix.back.group.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpsertGroupMembersRequestDTO {
+
+  @NotNull
+  @Size(min = 1, max = 1000)
+  private List<@Valid @NotNull GroupMemberRequestDTO> members;
+}
@@ -14,6 +14,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import rest.felix.back.todo.entity.Todo;
@@ -35,6 +36,11 @@ public class Group {
   @Column(nullable = false, length = 200)
   private String description = "";
 
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Setter(AccessLevel.NONE)
+  private long changeSeq = 0;
+
   @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<UserGroup> userGroups = new ArrayList<>();
 
@@ -25,7 +25,11 @@ import rest.felix.back.user.entity.User;
 @Setter
 @ToString
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"userId", "groupId"}))
+@Table(
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_user_group_user_id_group_id",
+            columnNames = {"userId", "groupId"}))
 public class UserGroup {
 
   @Id
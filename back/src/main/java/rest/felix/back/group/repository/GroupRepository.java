@@ -2,12 +2,23 @@ package rest.felix.back.group.repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.TypedQuery;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Repository;
+import rest.felix.back.common.exception.throwable.badrequest.BadRequestException;
 import rest.felix.back.group.dto.CreateGroupDTO;
+import rest.felix.back.group.dto.GroupCursorDTO;
 import rest.felix.back.group.dto.GroupDTO;
+import rest.felix.back.group.dto.GroupPageDTO;
+import rest.felix.back.group.dto.GroupSort;
 import rest.felix.back.group.entity.Group;
 
 @Repository
@@ -32,22 +43,83 @@ public class GroupRepository {
     String query =
         """
         SELECT
-            g
+            new rest.felix.back.group.dto.GroupDTO(g.id, g.name, g.description)
         FROM
             UserGroup ug
         JOIN
             ug.group g
         WHERE
             ug.user.id = :userId
+        ORDER BY
+            g.id ASC
         """;
 
-    return em
-        .createQuery(query, Group.class)
+    return em.createQuery(query, GroupDTO.class)
         .setParameter("userId", userId)
-        .getResultList()
-        .stream()
-        .map(group -> new GroupDTO(group.getId(), group.getName(), group.getDescription()))
-        .toList();
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList();
+  }
+
+  public GroupPageDTO getGroupPageByUserId(
+      long userId, GroupSort sort, Direction direction, GroupCursorDTO cursor, int size) {
+    String sortKey =
+        switch (sort) {
+          case NAME -> "g.name";
+          case CREATED_AT -> "g.createdAt";
+          case LAST_ACTIVITY -> "COALESCE(s.updatedAt, g.createdAt)";
+        };
+    String join =
+        sort == GroupSort.LAST_ACTIVITY ? "LEFT JOIN GroupTodoStats s ON s.groupId = g.id" : "";
+    String comparison = direction == Direction.ASC ? ">" : "<";
+    String order = direction == Direction.ASC ? "ASC" : "DESC";
+    String seek =
+        cursor == null
+            ? ""
+            : String.format(
+                "AND (%1$s %2$s :sortValue OR (%1$s = :sortValue AND g.id %2$s :cursorId))",
+                sortKey, comparison);
+
+    TypedQuery<Object[]> query =
+        em.createQuery(
+                String.format(
+                    """
+                    SELECT
+                        new rest.felix.back.group.dto.GroupDTO(g.id, g.name, g.description),
+                        %1$s
+                    FROM
+                        UserGroup ug
+                    JOIN
+                        ug.group g
+                    %2$s
+                    WHERE
+                        ug.user.id = :userId
+                        %3$s
+                    ORDER BY
+                        %1$s %4$s,
+                        g.id %4$s
+                    """,
+                    sortKey, join, seek, order),
+                Object[].class)
+            .setParameter("userId", userId)
+            .setMaxResults(size + 1)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+    if (cursor != null) {
+      query.setParameter("sortValue", sortValue(sort, cursor.getSortValue()));
+      query.setParameter("cursorId", cursor.getId());
+    }
+
+    List<Object[]> rows = query.getResultList();
+    List<GroupDTO> groupDTOs = rows.stream().limit(size).map(row -> (GroupDTO) row[0]).toList();
+
+    if (rows.size() <= size) {
+      return new GroupPageDTO(groupDTOs, null);
+    }
+
+    Object[] last = rows.get(size - 1);
+    GroupCursorDTO nextCursor =
+        new GroupCursorDTO(encodeSortValue(last[1]), ((GroupDTO) last[0]).getId());
+    return new GroupPageDTO(groupDTOs, nextCursor.encode());
   }
 
   public Optional<GroupDTO> getById(long groupId) {
@@ -63,7 +135,10 @@ public class GroupRepository {
           """;
 
       return Optional.of(
-              em.createQuery(query, Group.class).setParameter("groupId", groupId).getSingleResult())
+              em.createQuery(query, Group.class)
+                  .setParameter("groupId", groupId)
+                  .setHint(HibernateHints.HINT_READ_ONLY, true)
+                  .getSingleResult())
           .map(group -> new GroupDTO(group.getId(), group.getName(), group.getDescription()));
     } catch (NoResultException e) {
       return Optional.empty();
@@ -82,4 +157,22 @@ public class GroupRepository {
         .setParameter("groupId", groupId)
         .executeUpdate();
   }
+
+  private static Object sortValue(GroupSort sort, String value) {
+    if (sort == GroupSort.NAME) {
+      return value;
+    }
+
+    try {
+      return Instant.parse(value).atZone(ZoneOffset.UTC);
+    } catch (DateTimeParseException e) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+  }
+
+  private static String encodeSortValue(Object value) {
+    return value instanceof ZonedDateTime zonedDateTime
+        ? zonedDateTime.toInstant().toString()
+        : String.valueOf(value);
+  }
 }
@@ -2,8 +2,11 @@ package rest.felix.back.group.repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import rest.felix.back.group.dto.UserGroupDTO;
 import rest.felix.back.group.entity.Group;
@@ -33,6 +36,7 @@ public class UserGroupRepository {
                       UserGroup.class)
                   .setParameter("userId", userId)
                   .setParameter("groupId", groupId)
+                  .setHint(HibernateHints.HINT_READ_ONLY, true)
                   .getSingleResult())
           .map(userGroup -> new UserGroupDTO(userGroup.getGroupRole(), userId, groupId));
 
@@ -53,6 +57,106 @@ public class UserGroupRepository {
     em.persist(userGroup);
   }
 
+  public int upsertMembers(
+      long groupId,
+      Collection<String> usernames,
+      GroupRole role,
+      Collection<GroupRole> protectedRoles) {
+    ZonedDateTime now = ZonedDateTime.now();
+
+    int updated =
+        em.createQuery(
+                """
+            UPDATE
+                UserGroup ug
+            SET
+                ug.groupRole = :role,
+                ug.updatedAt = :now
+            WHERE
+                ug.group.id = :groupId
+                AND ug.groupRole <> :role
+                AND ug.groupRole NOT IN :protectedRoles
+                AND ug.user.id IN (
+                    SELECT
+                        u.id
+                    FROM
+                        User u
+                    WHERE
+                        u.username IN :usernames
+                )
+            """)
+            .setParameter("role", role)
+            .setParameter("now", now)
+            .setParameter("groupId", groupId)
+            .setParameter("protectedRoles", protectedRoles)
+            .setParameter("usernames", usernames)
+            .executeUpdate();
+
+    int inserted =
+        em.createNativeQuery(
+                """
+            INSERT INTO "user_group" (
+                "user_id",
+                "group_id",
+                "group_role",
+                "created_at",
+                "updated_at"
+            )
+            SELECT
+                u."id",
+                :groupId,
+                :role,
+                :now,
+                :now
+            FROM
+                "user" u
+            WHERE
+                u."username" IN :usernames
+                AND NOT EXISTS (
+                    SELECT
+                        1
+                    FROM
+                        "user_group" ug
+                    WHERE
+                        ug."user_id" = u."id"
+                        AND ug."group_id" = :groupId
+                )
+            ON CONFLICT DO NOTHING
+            """)
+            .setParameter("groupId", groupId)
+            .setParameter("role", role.name())
+            .setParameter("now", now)
+            .setParameter("usernames", usernames)
+            .executeUpdate();
+
+    return updated + inserted;
+  }
+
+  public int deleteMembers(
+      long groupId, Collection<String> usernames, Collection<GroupRole> protectedRoles) {
+    return em.createQuery(
+            """
+        DELETE
+        FROM
+            UserGroup ug
+        WHERE
+            ug.group.id = :groupId
+            AND ug.groupRole NOT IN :protectedRoles
+            AND ug.user.id IN (
+                SELECT
+                    u.id
+                FROM
+                    User u
+                WHERE
+                    u.username IN :usernames
+            )
+        """)
+        .setParameter("groupId", groupId)
+        .setParameter("usernames", usernames)
+        .setParameter("protectedRoles", protectedRoles)
+        .executeUpdate();
+  }
+
   public void deleteByGroupId(long groupId) {
     em.createQuery(
             """
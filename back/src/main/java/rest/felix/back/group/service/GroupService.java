@@ -1,18 +1,37 @@
 package rest.felix.back.group.service;
 
-import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+import rest.felix.back.activity.service.ActivityLogService;
 import rest.felix.back.common.exception.throwable.forbidden.UserAccessDeniedException;
 import rest.felix.back.common.exception.throwable.notfound.ResourceNotFoundException;
 import rest.felix.back.group.dto.CreateGroupDTO;
+import rest.felix.back.group.dto.GroupCursorDTO;
 import rest.felix.back.group.dto.GroupDTO;
+import rest.felix.back.group.dto.GroupMemberDTO;
+import rest.felix.back.group.dto.GroupMembersResultDTO;
+import rest.felix.back.group.dto.GroupPageDTO;
+import rest.felix.back.group.dto.GroupSort;
 import rest.felix.back.group.dto.UserGroupDTO;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.repository.GroupRepository;
 import rest.felix.back.group.repository.UserGroupRepository;
+import rest.felix.back.todo.dto.GroupTodoStatsDTO;
+import rest.felix.back.todo.repository.GroupTodoStatsRepository;
 import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.user.repository.UserRepository;
 
 @Service
 @Transactional
@@ -22,6 +41,9 @@ public class GroupService {
   private final GroupRepository groupRepository;
   private final UserGroupRepository userGroupRepository;
   private final TodoRepository todoRepository;
+  private final GroupTodoStatsRepository groupTodoStatsRepository;
+  private final UserRepository userRepository;
+  private final ActivityLogService activityLogService;
 
   public GroupDTO createGroup(CreateGroupDTO createGroupDTO) {
 
@@ -30,19 +52,47 @@ public class GroupService {
     userGroupRepository.registerUserToGroup(
         createGroupDTO.getUserId(), groupDTO.getId(), GroupRole.OWNER);
 
+    activityLogService.record(
+        groupDTO.getId(),
+        createGroupDTO.getUserId(),
+        ActivityType.GROUP_CREATED,
+        groupDTO.getId(),
+        groupDTO.getName());
+
     return groupDTO;
   }
 
+  @Transactional(readOnly = true)
   public List<GroupDTO> getGroupsByUserId(long userId) {
 
     return groupRepository.getGroupsByUserId(userId);
   }
 
+  @Transactional(readOnly = true)
+  public GroupPageDTO getGroupPageByUserId(
+      long userId, GroupSort sort, Direction direction, String cursor, int size) {
+
+    return groupRepository.getGroupPageByUserId(
+        userId,
+        sort,
+        direction == null ? sort.getDefaultDirection() : direction,
+        cursor == null ? null : GroupCursorDTO.decode(cursor),
+        size);
+  }
+
+  @Transactional(readOnly = true)
+  public List<GroupTodoStatsDTO> getTodoStatsByUserId(long userId) {
+
+    return groupTodoStatsRepository.getStatsOfUser(userId);
+  }
+
+  @Transactional(readOnly = true)
   public GroupDTO getGroupById(long groupId) {
 
     return groupRepository.getById(groupId).orElseThrow(ResourceNotFoundException::new);
   }
 
+  @Transactional(readOnly = true)
   public GroupRole getUserRoleInGroup(long userId, long groupId) {
     return userGroupRepository
         .getByUserIdAndGroupId(userId, groupId)
@@ -50,10 +100,77 @@ public class GroupService {
         .orElseThrow(UserAccessDeniedException::new);
   }
 
-  public void deleteGroupById(long groupId) {
+  public GroupMembersResultDTO upsertMembers(
+      long groupId, long actorId, GroupRole actorRole, List<GroupMemberDTO> members) {
+
+    Map<String, GroupRole> roleByUsername = new LinkedHashMap<>();
+    members.forEach(member -> roleByUsername.put(member.getUsername(), member.getGroupRole()));
+
+    Map<GroupRole, List<String>> usernamesByRole = new EnumMap<>(GroupRole.class);
+    roleByUsername.forEach(
+        (username, role) ->
+            usernamesByRole.computeIfAbsent(role, key -> new ArrayList<>()).add(username));
+
+    List<GroupRole> protectedRoles = protectedRoles(actorRole);
+
+    int affectedCount =
+        usernamesByRole.entrySet().stream()
+            .mapToInt(
+                entry ->
+                    userGroupRepository.upsertMembers(
+                        groupId, entry.getValue(), entry.getKey(), protectedRoles))
+            .sum();
+
+    if (affectedCount > 0) {
+      activityLogService.record(
+          groupId,
+          actorId,
+          ActivityType.MEMBERS_UPSERTED,
+          null,
+          String.join(",", roleByUsername.keySet()));
+    }
+
+    return new GroupMembersResultDTO(affectedCount, unknownUsernames(roleByUsername.keySet()));
+  }
+
+  public GroupMembersResultDTO removeMembers(
+      long groupId, long actorId, GroupRole actorRole, List<String> usernames) {
+
+    Set<String> distinctUsernames = new LinkedHashSet<>(usernames);
+
+    int affectedCount =
+        userGroupRepository.deleteMembers(groupId, distinctUsernames, protectedRoles(actorRole));
+
+    if (affectedCount > 0) {
+      activityLogService.record(
+          groupId,
+          actorId,
+          ActivityType.MEMBERS_REMOVED,
+          null,
+          String.join(",", distinctUsernames));
+    }
+
+    return new GroupMembersResultDTO(affectedCount, unknownUsernames(distinctUsernames));
+  }
+
+  public void deleteGroupById(long groupId, long actorId) {
     userGroupRepository.deleteByGroupId(groupId);
     todoRepository.deleteByGroupId(groupId);
 
     groupRepository.deleteGroupById(groupId);
+
+    activityLogService.record(groupId, actorId, ActivityType.GROUP_DELETED, groupId, null);
+  }
+
+  private List<String> unknownUsernames(Collection<String> usernames) {
+    Set<String> existingUsernames = new HashSet<>(userRepository.getExistingUsernames(usernames));
+
+    return usernames.stream().filter(username -> !existingUsernames.contains(username)).toList();
+  }
+
+  private static List<GroupRole> protectedRoles(GroupRole actorRole) {
+    return actorRole == GroupRole.OWNER
+        ? List.of(GroupRole.OWNER)
+        : List.of(GroupRole.OWNER, GroupRole.MANAGER);
   }
 }
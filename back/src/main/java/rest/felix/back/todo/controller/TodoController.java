@@ -2,7 +2,10 @@ package rest.felix.back.todo.controller;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,21 +14,35 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import rest.felix.back.common.exception.ErrorCode;
+import rest.felix.back.common.exception.throwable.badrequest.BadRequestException;
 import rest.felix.back.common.exception.throwable.forbidden.UserAccessDeniedException;
+import rest.felix.back.common.exception.throwable.preconditionfailed.TodoVersionMismatchException;
 import rest.felix.back.common.exception.throwable.unauthorized.NoMatchingUserException;
+import rest.felix.back.common.metrics.RequestMetrics;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.service.GroupService;
 import rest.felix.back.todo.dto.CreateTodoDTO;
 import rest.felix.back.todo.dto.CreateTodoRequestDTO;
+import rest.felix.back.todo.dto.CreatedTodoDTO;
+import rest.felix.back.todo.dto.TodoChangesDTO;
+import rest.felix.back.todo.dto.TodoChangesResponseDTO;
 import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.TodoPageDTO;
+import rest.felix.back.todo.dto.TodoPageResponseDTO;
 import rest.felix.back.todo.dto.TodoResponseDTO;
 import rest.felix.back.todo.dto.UpdateTodoDTO;
 import rest.felix.back.todo.dto.UpdateTodoRequestDTO;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.todo.service.TodoService;
 import rest.felix.back.user.dto.UserDTO;
+import rest.felix.back.user.dto.UserSummaryDTO;
 import rest.felix.back.user.service.UserService;
+import rest.felix.back.user.service.UserSummaryLoader;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -35,6 +52,8 @@ public class TodoController {
   private final GroupService groupService;
   private final TodoService todoService;
   private final UserService userService;
+  private final UserSummaryLoader userSummaryLoader;
+  private final RequestMetrics requestMetrics;
 
   @GetMapping("/group/{groupId}/todo")
   public ResponseEntity<List<TodoResponseDTO>> getTodos(
@@ -45,8 +64,114 @@ public class TodoController {
 
     groupService.getUserRoleInGroup(userId, groupId);
 
+    userSummaryLoader.prime(
+        new UserSummaryDTO(userId, userDTO.getUsername(), userDTO.getNickname()));
+
+    List<TodoDTO> todoDTOs = todoService.getTodosInGroup(groupId);
+    requestMetrics.recordGroupSize(todoDTOs.size());
+
+    Map<Long, UserSummaryDTO> authors =
+        userSummaryLoader.loadAll(todoDTOs.stream().map(TodoDTO::getAuthorId).toList());
+
     List<TodoResponseDTO> todoResponseDTOs =
-        todoService.getTodosInGroup(groupId).stream().map(TodoResponseDTO::of).toList();
+        todoDTOs.stream()
+            .map(todoDTO -> TodoResponseDTO.of(todoDTO, authors.get(todoDTO.getAuthorId())))
+            .toList();
+
+    return ResponseEntity.ok().body(todoResponseDTOs);
+  }
+
+  @GetMapping("/group/{groupId}/todo/changes")
+  public ResponseEntity<TodoChangesResponseDTO> getTodoChanges(
+      Principal principal,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestParam(name = "since", required = false) String since) {
+    String username = principal.getName();
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    groupService.getUserRoleInGroup(userId, groupId);
+
+    userSummaryLoader.prime(
+        new UserSummaryDTO(userId, userDTO.getUsername(), userDTO.getNickname()));
+
+    TodoChangesDTO todoChangesDTO = todoService.getTodoChangesInGroup(groupId, since);
+
+    Map<Long, UserSummaryDTO> authors =
+        userSummaryLoader.loadAll(
+            todoChangesDTO.getTodos().stream().map(TodoDTO::getAuthorId).toList());
+
+    List<TodoResponseDTO> todoResponseDTOs =
+        todoChangesDTO.getTodos().stream()
+            .map(todoDTO -> TodoResponseDTO.of(todoDTO, authors.get(todoDTO.getAuthorId())))
+            .toList();
+
+    return ResponseEntity.ok()
+        .body(
+            new TodoChangesResponseDTO(
+                todoResponseDTOs,
+                todoChangesDTO.getDeletedTodoIds(),
+                todoChangesDTO.getSyncToken(),
+                todoChangesDTO.isFullResync()));
+  }
+
+  @GetMapping("/user/me/todos")
+  public ResponseEntity<TodoPageResponseDTO> getMyTodos(
+      Principal principal,
+      @RequestParam(name = "status", required = false) TodoStatus status,
+      @RequestParam(name = "authorId", required = false) Long authorId,
+      @RequestParam(name = "cursor", required = false) Long cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+    if (size < 1 || size > 200) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+
+    String username = principal.getName();
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    userSummaryLoader.prime(
+        new UserSummaryDTO(userId, userDTO.getUsername(), userDTO.getNickname()));
+
+    TodoPageDTO todoPageDTO = todoService.getTodosOfUser(userId, status, authorId, cursor, size);
+    Map<Long, UserSummaryDTO> authors =
+        userSummaryLoader.loadAll(
+            todoPageDTO.getTodos().stream().map(TodoDTO::getAuthorId).toList());
+
+    List<TodoResponseDTO> todoResponseDTOs =
+        todoPageDTO.getTodos().stream()
+            .map(todoDTO -> TodoResponseDTO.of(todoDTO, authors.get(todoDTO.getAuthorId())))
+            .toList();
+
+    return ResponseEntity.ok()
+        .body(new TodoPageResponseDTO(todoResponseDTOs, todoPageDTO.getNextCursor()));
+  }
+
+  @GetMapping("/todo/search")
+  public ResponseEntity<List<TodoResponseDTO>> searchTodos(
+      Principal principal,
+      @RequestParam(name = "query") String query,
+      @RequestParam(name = "page", defaultValue = "0") int page,
+      @RequestParam(name = "size", defaultValue = "20") int size) {
+    if (query.isBlank() || page < 0 || size < 1 || size > 100) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+
+    String username = principal.getName();
+    UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
+    long userId = userDTO.getId();
+
+    userSummaryLoader.prime(
+        new UserSummaryDTO(userId, userDTO.getUsername(), userDTO.getNickname()));
+
+    List<TodoDTO> todoDTOs = todoService.searchTodosOfUser(userId, query.strip(), page, size);
+    Map<Long, UserSummaryDTO> authors =
+        userSummaryLoader.loadAll(todoDTOs.stream().map(TodoDTO::getAuthorId).toList());
+
+    List<TodoResponseDTO> todoResponseDTOs =
+        todoDTOs.stream()
+            .map(todoDTO -> TodoResponseDTO.of(todoDTO, authors.get(todoDTO.getAuthorId())))
+            .toList();
 
     return ResponseEntity.ok().body(todoResponseDTOs);
   }
@@ -55,6 +180,7 @@ public class TodoController {
   public ResponseEntity<TodoResponseDTO> createTodo(
       Principal principal,
       @PathVariable(name = "groupId") long groupId,
+      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
       @RequestBody CreateTodoRequestDTO createTodoRequestDTO) {
     String username = principal.getName();
     UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
@@ -65,6 +191,10 @@ public class TodoController {
       throw new UserAccessDeniedException();
     }
 
+    if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 255)) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+
     CreateTodoDTO createTodoDTO =
         new CreateTodoDTO(
             createTodoRequestDTO.getTitle(),
@@ -73,11 +203,35 @@ public class TodoController {
             userId,
             groupId);
 
-    TodoDTO todoDTO = todoService.createTodo(createTodoDTO);
+    CreatedTodoDTO createdTodoDTO;
+    try {
+      createdTodoDTO = todoService.createTodo(createTodoDTO, idempotencyKey);
+    } catch (DataIntegrityViolationException exception) {
+      if (idempotencyKey == null || ErrorCode.of(exception) != ErrorCode.IDEMPOTENCY_KEY_IN_USE) {
+        throw exception;
+      }
+
+      createdTodoDTO =
+          todoService
+              .getTodoCreatedWithKey(userId, groupId, idempotencyKey)
+              .map(todoDTO -> new CreatedTodoDTO(todoDTO, true))
+              .orElseThrow(() -> exception);
+    }
+
+    TodoDTO todoDTO = createdTodoDTO.getTodo();
 
-    TodoResponseDTO todoResponseDTO = TodoResponseDTO.of(todoDTO);
+    TodoResponseDTO todoResponseDTO =
+        TodoResponseDTO.of(
+            todoDTO, new UserSummaryDTO(userId, userDTO.getUsername(), userDTO.getNickname()));
 
-    return ResponseEntity.status(HttpStatus.CREATED).body(todoResponseDTO);
+    ResponseEntity.BodyBuilder responseBuilder =
+        ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(todoDTO.getVersion()));
+
+    if (createdTodoDTO.isReplayed()) {
+      responseBuilder.header("Idempotent-Replayed", "true");
+    }
+
+    return responseBuilder.body(todoResponseDTO);
   }
 
   @DeleteMapping("/group/{groupId}/todo/{todoId}")
@@ -101,7 +255,7 @@ public class TodoController {
       throw new UserAccessDeniedException();
     }
 
-    todoService.deleteTodo(todoDTO.getId());
+    todoService.deleteTodo(todoDTO.getId(), userId);
 
     return ResponseEntity.noContent().build();
   }
@@ -111,6 +265,7 @@ public class TodoController {
       Principal principal,
       @PathVariable(name = "groupId") long groupId,
       @PathVariable(name = "todoId") long todoId,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @RequestBody UpdateTodoRequestDTO updateTodoRequestDTO) {
     String username = principal.getName();
     UserDTO userDTO = userService.getByUsername(username).orElseThrow(NoMatchingUserException::new);
@@ -134,10 +289,31 @@ public class TodoController {
             updateTodoRequestDTO.getTitle(),
             updateTodoRequestDTO.getDescription(),
             updateTodoRequestDTO.getOrder(),
-            updateTodoRequestDTO.getStatus());
+            updateTodoRequestDTO.getStatus(),
+            expectedVersion(ifMatch));
 
-    TodoDTO updatedTodoDTO = todoService.updateTodo(updateTodoDTO);
+    TodoDTO updatedTodoDTO = todoService.updateTodo(updateTodoDTO, userId);
 
-    return ResponseEntity.ok().body(updatedTodoDTO);
+    return ResponseEntity.ok()
+        .eTag(String.valueOf(updatedTodoDTO.getVersion()))
+        .body(updatedTodoDTO);
+  }
+
+  private Long expectedVersion(String ifMatch) {
+    if (ifMatch == null || ifMatch.strip().equals("*")) {
+      return null;
+    }
+
+    String entityTag = ifMatch.strip();
+
+    if (entityTag.startsWith("W/")) {
+      throw new TodoVersionMismatchException();
+    }
+
+    try {
+      return Long.parseLong(entityTag.replace("\"", ""));
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
   }
 }
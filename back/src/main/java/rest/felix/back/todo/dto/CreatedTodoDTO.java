@@ -0,0 +1,12 @@
+package rest.felix.back.todo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CreatedTodoDTO {
+
+  private final TodoDTO todo;
+  private final boolean replayed;
+}
@@ -0,0 +1,17 @@
+package rest.felix.back.todo.dto;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GroupTodoStatsDTO {
+
+  private final long groupId;
+  private final long toDoCount;
+  private final long inProgressCount;
+  private final long doneCount;
+  private final long onHoldCount;
+  private final ZonedDateTime updatedAt;
+}
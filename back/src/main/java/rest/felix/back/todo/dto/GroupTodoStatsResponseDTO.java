@@ -0,0 +1,21 @@
+package rest.felix.back.todo.dto;
+
+import java.time.ZonedDateTime;
+
+public record GroupTodoStatsResponseDTO(
+    long groupId,
+    long toDoCount,
+    long inProgressCount,
+    long doneCount,
+    long onHoldCount,
+    ZonedDateTime updatedAt) {
+  public static GroupTodoStatsResponseDTO of(GroupTodoStatsDTO groupTodoStatsDTO) {
+    return new GroupTodoStatsResponseDTO(
+        groupTodoStatsDTO.getGroupId(),
+        groupTodoStatsDTO.getToDoCount(),
+        groupTodoStatsDTO.getInProgressCount(),
+        groupTodoStatsDTO.getDoneCount(),
+        groupTodoStatsDTO.getOnHoldCount(),
+        groupTodoStatsDTO.getUpdatedAt());
+  }
+}
@@ -0,0 +1,15 @@
+package rest.felix.back.todo.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoChangesDTO {
+
+  private final List<TodoDTO> todos;
+  private final List<Long> deletedTodoIds;
+  private final String syncToken;
+  private final boolean fullResync;
+}
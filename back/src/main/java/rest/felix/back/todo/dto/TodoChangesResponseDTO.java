@@ -0,0 +1,6 @@
+package rest.felix.back.todo.dto;
+
+import java.util.List;
+
+public record TodoChangesResponseDTO(
+    List<TodoResponseDTO> todos, List<Long> deletedTodoIds, String syncToken, boolean fullResync) {}
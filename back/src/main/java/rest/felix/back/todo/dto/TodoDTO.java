@@ -17,6 +17,7 @@ public class TodoDTO {
   private final TodoStatus status;
   private final long authorId;
   private final long groupId;
+  private final long version;
 
   public static TodoDTO of(Todo todo) {
     return new TodoDTO(
@@ -26,6 +27,7 @@ public class TodoDTO {
         todo.getOrder(),
         todo.getTodoStatus(),
         todo.getAuthor().getId(),
-        todo.getGroup().getId());
+        todo.getGroup().getId(),
+        todo.getVersion());
   }
 }
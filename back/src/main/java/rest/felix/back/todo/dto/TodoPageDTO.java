@@ -0,0 +1,13 @@
+package rest.felix.back.todo.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoPageDTO {
+
+  private final List<TodoDTO> todos;
+  private final Long nextCursor;
+}
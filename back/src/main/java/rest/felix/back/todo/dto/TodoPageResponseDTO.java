@@ -0,0 +1,5 @@
+package rest.felix.back.todo.dto;
+
+import java.util.List;
+
+public record TodoPageResponseDTO(List<TodoResponseDTO> todos, Long nextCursor) {}
@@ -1,6 +1,7 @@
 package rest.felix.back.todo.dto;
 
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.user.dto.UserSummaryDTO;
 
 public record TodoResponseDTO(
     long id,
@@ -9,8 +10,11 @@ public record TodoResponseDTO(
     String order,
     TodoStatus status,
     long authorId,
-    long groupId) {
-  public static TodoResponseDTO of(TodoDTO todoDTO) {
+    String authorUsername,
+    String authorNickname,
+    long groupId,
+    long version) {
+  public static TodoResponseDTO of(TodoDTO todoDTO, UserSummaryDTO author) {
     return new TodoResponseDTO(
         todoDTO.getId(),
         todoDTO.getTitle(),
@@ -18,6 +22,9 @@ public record TodoResponseDTO(
         todoDTO.getOrder(),
         todoDTO.getStatus(),
         todoDTO.getAuthorId(),
-        todoDTO.getGroupId());
+        author == null ? null : author.getUsername(),
+        author == null ? null : author.getNickname(),
+        todoDTO.getGroupId(),
+        todoDTO.getVersion());
   }
 }
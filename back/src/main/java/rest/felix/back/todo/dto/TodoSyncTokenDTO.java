@@ -0,0 +1,35 @@
+package rest.felix.back.todo.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rest.felix.back.common.exception.throwable.badrequest.BadRequestException;
+
+@Getter
+@AllArgsConstructor
+public class TodoSyncTokenDTO {
+
+  private final long groupId;
+  private final long changeSeq;
+  private final long issuedAt;
+
+  public static TodoSyncTokenDTO decode(String token) {
+    try {
+      String[] parts =
+          new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+
+      return new TodoSyncTokenDTO(
+          Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new BadRequestException("Bad Request, please check parameters.");
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(
+            (groupId + "|" + changeSeq + "|" + issuedAt).getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -13,4 +13,5 @@ public class UpdateTodoDTO {
   private final String description;
   private final String order;
   private final TodoStatus status;
+  private final Long expectedVersion;
 }
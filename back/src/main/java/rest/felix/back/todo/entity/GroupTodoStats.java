@@ -0,0 +1,33 @@
+package rest.felix.back.todo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.ZonedDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Entity
+public class GroupTodoStats {
+
+  @Id private Long groupId;
+
+  @Column(nullable = false)
+  private long toDoCount = 0;
+
+  @Column(nullable = false)
+  private long inProgressCount = 0;
+
+  @Column(nullable = false)
+  private long doneCount = 0;
+
+  @Column(nullable = false)
+  private long onHoldCount = 0;
+
+  @Column(nullable = false)
+  private ZonedDateTime updatedAt;
+}
@@ -4,17 +4,21 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.ZonedDateTime;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import rest.felix.back.group.entity.Group;
@@ -25,7 +29,16 @@ import rest.felix.back.user.entity.User;
 @Getter
 @Setter
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "order", "todo_status"}))
+@Table(
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_todo_group_id_order_todo_status",
+            columnNames = {"group_id", "order", "todo_status"}),
+    indexes = {
+      @Index(name = "idx_todo_group_id_id", columnList = "group_id, id"),
+      @Index(name = "idx_todo_author_id", columnList = "author_id"),
+      @Index(name = "idx_todo_group_id_change_seq", columnList = "group_id, change_seq")
+    })
 public class Todo {
 
   @Id
@@ -33,9 +46,11 @@ public class Todo {
   @Setter(AccessLevel.NONE)
   private Long id;
 
-  @ManyToOne private User author;
+  @ManyToOne(fetch = FetchType.LAZY)
+  private User author;
 
-  @ManyToOne private Group group;
+  @ManyToOne(fetch = FetchType.LAZY)
+  private Group group;
 
   @Column(nullable = false)
   private String title;
@@ -53,4 +68,14 @@ public class Todo {
 
   @Column(nullable = false)
   private String order;
+
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  private long changeSeq;
+
+  @Version
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Setter(AccessLevel.NONE)
+  private long version;
 }
@@ -0,0 +1,45 @@
+package rest.felix.back.todo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_todo_idempotency_key_user_id_idempotency_key",
+            columnNames = {"user_id", "idempotency_key"}),
+    indexes = @Index(name = "idx_todo_idempotency_key_created_at", columnList = "created_at"))
+public class TodoIdempotencyKey {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Setter(AccessLevel.NONE)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false)
+  private String idempotencyKey;
+
+  @Column(nullable = false)
+  private Long todoId;
+
+  @CreationTimestamp private ZonedDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package rest.felix.back.todo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(
+    indexes =
+        @Index(
+            name = "idx_todo_tombstone_group_id_change_seq",
+            columnList = "group_id, change_seq"))
+public class TodoTombstone {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Setter(AccessLevel.NONE)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long todoId;
+
+  @Column(nullable = false)
+  private Long groupId;
+
+  @Column(nullable = false)
+  private long changeSeq;
+
+  @CreationTimestamp private ZonedDateTime deletedAt;
+}
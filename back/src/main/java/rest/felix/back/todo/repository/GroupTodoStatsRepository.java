@@ -0,0 +1,182 @@
+package rest.felix.back.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import rest.felix.back.todo.dto.GroupTodoStatsDTO;
+import rest.felix.back.todo.entity.GroupTodoStats;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+@Repository
+@AllArgsConstructor
+public class GroupTodoStatsRepository {
+
+  private final EntityManager em;
+
+  public void applyDelta(long groupId, Map<TodoStatus, Long> deltas) {
+    if (updateCounts(groupId, deltas) == 0 && !insertCounts(groupId)) {
+      updateCounts(groupId, deltas);
+    }
+  }
+
+  private int updateCounts(long groupId, Map<TodoStatus, Long> deltas) {
+    return em.createQuery(
+            """
+        UPDATE
+            GroupTodoStats s
+        SET
+            s.toDoCount = s.toDoCount + :toDo,
+            s.inProgressCount = s.inProgressCount + :inProgress,
+            s.doneCount = s.doneCount + :done,
+            s.onHoldCount = s.onHoldCount + :onHold,
+            s.updatedAt = :updatedAt
+        WHERE
+            s.groupId = :groupId
+        """)
+        .setParameter("toDo", deltas.getOrDefault(TodoStatus.TO_DO, 0L))
+        .setParameter("inProgress", deltas.getOrDefault(TodoStatus.IN_PROGRESS, 0L))
+        .setParameter("done", deltas.getOrDefault(TodoStatus.DONE, 0L))
+        .setParameter("onHold", deltas.getOrDefault(TodoStatus.ON_HOLD, 0L))
+        .setParameter("updatedAt", ZonedDateTime.now())
+        .setParameter("groupId", groupId)
+        .executeUpdate();
+  }
+
+  private boolean insertCounts(long groupId) {
+    Map<TodoStatus, Long> counts =
+        countByGroupIds(List.of(groupId)).getOrDefault(groupId, Map.of());
+
+    return em.createNativeQuery(
+                """
+            INSERT INTO "group_todo_stats" (
+                "group_id",
+                "to_do_count",
+                "in_progress_count",
+                "done_count",
+                "on_hold_count",
+                "updated_at"
+            ) VALUES (
+                :groupId,
+                :toDo,
+                :inProgress,
+                :done,
+                :onHold,
+                :updatedAt
+            )
+            ON CONFLICT DO NOTHING
+            """)
+            .setParameter("groupId", groupId)
+            .setParameter("toDo", counts.getOrDefault(TodoStatus.TO_DO, 0L))
+            .setParameter("inProgress", counts.getOrDefault(TodoStatus.IN_PROGRESS, 0L))
+            .setParameter("done", counts.getOrDefault(TodoStatus.DONE, 0L))
+            .setParameter("onHold", counts.getOrDefault(TodoStatus.ON_HOLD, 0L))
+            .setParameter("updatedAt", ZonedDateTime.now())
+            .executeUpdate()
+        > 0;
+  }
+
+  public List<GroupTodoStatsDTO> getStatsOfUser(long userId) {
+    List<Object[]> rows =
+        em.createQuery(
+                """
+            SELECT
+                ug.group.id,
+                s
+            FROM
+                UserGroup ug
+            LEFT JOIN
+                GroupTodoStats s ON s.groupId = ug.group.id
+            WHERE
+                ug.user.id = :userId
+            ORDER BY
+                ug.group.id ASC
+            """,
+                Object[].class)
+            .setParameter("userId", userId)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList();
+
+    List<Long> missingGroupIds =
+        rows.stream().filter(row -> row[1] == null).map(row -> (Long) row[0]).toList();
+    Map<Long, Map<TodoStatus, Long>> missingCounts = countByGroupIds(missingGroupIds);
+
+    return rows.stream()
+        .map(
+            row -> {
+              long groupId = (Long) row[0];
+
+              if (row[1] instanceof GroupTodoStats groupTodoStats) {
+                return new GroupTodoStatsDTO(
+                    groupId,
+                    groupTodoStats.getToDoCount(),
+                    groupTodoStats.getInProgressCount(),
+                    groupTodoStats.getDoneCount(),
+                    groupTodoStats.getOnHoldCount(),
+                    groupTodoStats.getUpdatedAt());
+              }
+
+              Map<TodoStatus, Long> counts = missingCounts.getOrDefault(groupId, Map.of());
+              return new GroupTodoStatsDTO(
+                  groupId,
+                  counts.getOrDefault(TodoStatus.TO_DO, 0L),
+                  counts.getOrDefault(TodoStatus.IN_PROGRESS, 0L),
+                  counts.getOrDefault(TodoStatus.DONE, 0L),
+                  counts.getOrDefault(TodoStatus.ON_HOLD, 0L),
+                  null);
+            })
+        .toList();
+  }
+
+  public void deleteByGroupId(long groupId) {
+    em.createQuery(
+            """
+        DELETE
+        FROM
+          GroupTodoStats s
+        WHERE
+          s.groupId = :groupId
+        """)
+        .setParameter("groupId", groupId)
+        .executeUpdate();
+  }
+
+  private Map<Long, Map<TodoStatus, Long>> countByGroupIds(Collection<Long> groupIds) {
+    if (groupIds.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<Long, Map<TodoStatus, Long>> counts = new HashMap<>();
+
+    em.createQuery(
+            """
+        SELECT
+            t.group.id,
+            t.todoStatus,
+            COUNT(t)
+        FROM
+            Todo t
+        WHERE
+            t.group.id IN :groupIds
+        GROUP BY
+            t.group.id,
+            t.todoStatus
+        """,
+            Object[].class)
+        .setParameter("groupIds", groupIds)
+        .getResultList()
+        .forEach(
+            row ->
+                counts
+                    .computeIfAbsent((Long) row[0], groupId -> new EnumMap<>(TodoStatus.class))
+                    .put((TodoStatus) row[1], (Long) row[2]));
+
+    return counts;
+  }
+}
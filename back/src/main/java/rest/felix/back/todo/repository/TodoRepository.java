@@ -1,16 +1,32 @@
 package rest.felix.back.todo.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.TypedQuery;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import rest.felix.back.common.exception.throwable.notfound.ResourceNotFoundException;
+import rest.felix.back.common.exception.throwable.preconditionfailed.TodoVersionMismatchException;
+import rest.felix.back.common.outbox.OutboxEventRepository;
+import rest.felix.back.common.outbox.OutboxEventType;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.todo.dto.CreateTodoDTO;
 import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.TodoPageDTO;
 import rest.felix.back.todo.dto.UpdateTodoDTO;
 import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.TodoIdempotencyKey;
+import rest.felix.back.todo.entity.TodoTombstone;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.user.entity.User;
 
 @Repository
@@ -18,6 +34,8 @@ import rest.felix.back.user.entity.User;
 public class TodoRepository {
 
   private final EntityManager em;
+  private final GroupTodoStatsRepository groupTodoStatsRepository;
+  private final OutboxEventRepository outboxEventRepository;
 
   public List<TodoDTO> getTodosInGroup(long groupId) {
     return em
@@ -26,24 +44,73 @@ public class TodoRepository {
         SELECT
             t
         FROM
-            Group g
-        JOIN
-            g.todos t
-        JOIN FETCH
-            t.author
+            Todo t
         WHERE
-            g.id = :groupId
+            t.group.id = :groupId
         ORDER BY
             t.order ASC
         """,
             Todo.class)
         .setParameter("groupId", groupId)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
         .getResultList()
         .stream()
         .map(TodoDTO::of)
         .toList();
   }
 
+  public TodoPageDTO getTodosOfUser(
+      long userId, TodoStatus status, Long authorId, Long cursor, int size) {
+    String conditions =
+        Stream.of(
+                "ug.user.id = :userId",
+                status == null ? null : "t.todoStatus = :status",
+                authorId == null ? null : "t.author.id = :authorId",
+                cursor == null ? null : "t.id < :cursor")
+            .filter(Objects::nonNull)
+            .collect(Collectors.joining(" AND "));
+
+    TypedQuery<Todo> query =
+        em.createQuery(
+                String.format(
+                    """
+                    SELECT
+                        t
+                    FROM
+                        Todo t
+                    JOIN
+                        UserGroup ug ON ug.group.id = t.group.id
+                    WHERE
+                        %s
+                    ORDER BY
+                        t.id DESC
+                    """,
+                    conditions),
+                Todo.class)
+            .setParameter("userId", userId)
+            .setMaxResults(size + 1)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+    if (status != null) {
+      query.setParameter("status", status);
+    }
+    if (authorId != null) {
+      query.setParameter("authorId", authorId);
+    }
+    if (cursor != null) {
+      query.setParameter("cursor", cursor);
+    }
+
+    List<TodoDTO> todoDTOs = query.getResultList().stream().map(TodoDTO::of).toList();
+
+    if (todoDTOs.size() <= size) {
+      return new TodoPageDTO(todoDTOs, null);
+    }
+
+    List<TodoDTO> page = todoDTOs.subList(0, size);
+    return new TodoPageDTO(page, page.get(size - 1).getId());
+  }
+
   public Optional<TodoDTO> getTodoInGroup(long groupId, long todoId) {
     return em
         .createQuery(
@@ -63,6 +130,7 @@ public class TodoRepository {
             Todo.class)
         .setParameter("groupId", groupId)
         .setParameter("todoId", todoId)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
         .getResultList()
         .stream()
         .findFirst()
@@ -80,13 +148,37 @@ public class TodoRepository {
     todo.setTitle(createTodoDTO.getTitle());
     todo.setDescription(createTodoDTO.getDescription());
     todo.setOrder(createTodoDTO.getOrder());
+    todo.setChangeSeq(nextChangeSeq(createTodoDTO.getGroupId()));
 
     em.persist(todo);
 
-    return TodoDTO.of(todo);
+    groupTodoStatsRepository.applyDelta(
+        createTodoDTO.getGroupId(), Map.of(todo.getTodoStatus(), 1L));
+
+    TodoDTO todoDTO = TodoDTO.of(todo);
+
+    outboxEventRepository.append(
+        OutboxEventType.TODO_CREATED, todoDTO.getGroupId(), todoDTO.getId(), todoDTO);
+
+    return todoDTO;
   }
 
-  public void deleteTodo(long todoId) {
+  public Optional<Long> deleteTodo(long todoId) {
+    List<Object[]> deleted =
+        em.createQuery(
+                """
+            SELECT
+                t.group.id,
+                t.todoStatus
+            FROM
+                Todo t
+            WHERE
+                t.id = :todoId
+            """,
+                Object[].class)
+            .setParameter("todoId", todoId)
+            .getResultList();
+
     em.createQuery(
             """
         DELETE
@@ -95,6 +187,25 @@ public class TodoRepository {
         """)
         .setParameter("todoId", todoId)
         .executeUpdate();
+
+    deleted.forEach(
+        row -> {
+          groupTodoStatsRepository.applyDelta((Long) row[0], Map.of((TodoStatus) row[1], -1L));
+
+          TodoTombstone todoTombstone = new TodoTombstone();
+          todoTombstone.setTodoId(todoId);
+          todoTombstone.setGroupId((Long) row[0]);
+          todoTombstone.setChangeSeq(nextChangeSeq((Long) row[0]));
+          em.persist(todoTombstone);
+
+          outboxEventRepository.append(
+              OutboxEventType.TODO_DELETED,
+              (Long) row[0],
+              todoId,
+              Map.of("id", todoId, "groupId", row[0]));
+        });
+
+    return deleted.stream().findFirst().map(row -> (Long) row[0]);
   }
 
   public TodoDTO updateTodo(UpdateTodoDTO updateTodoDTO) {
@@ -115,17 +226,174 @@ public class TodoRepository {
         .findFirst()
         .map(
             todo -> {
+              em.unwrap(Session.class).setReadOnly(todo, false);
+
+              if (updateTodoDTO.getExpectedVersion() != null
+                  && updateTodoDTO.getExpectedVersion() != todo.getVersion()) {
+                throw new TodoVersionMismatchException();
+              }
+
+              TodoStatus previousStatus = todo.getTodoStatus();
+
+              todo.setChangeSeq(nextChangeSeq(todo.getGroup().getId()));
               todo.setTodoStatus(updateTodoDTO.getStatus());
               todo.setDescription(updateTodoDTO.getDescription());
               todo.setTitle(updateTodoDTO.getTitle());
               todo.setOrder(updateTodoDTO.getOrder());
-              em.flush();
-              return todo;
+
+              try {
+                em.flush();
+              } catch (OptimisticLockException e) {
+                throw new TodoVersionMismatchException();
+              }
+
+              groupTodoStatsRepository.applyDelta(
+                  todo.getGroup().getId(),
+                  previousStatus == todo.getTodoStatus()
+                      ? Map.of()
+                      : Map.of(previousStatus, -1L, todo.getTodoStatus(), 1L));
+
+              TodoDTO todoDTO = TodoDTO.of(todo);
+
+              outboxEventRepository.append(
+                  OutboxEventType.TODO_UPDATED, todoDTO.getGroupId(), todoDTO.getId(), todoDTO);
+
+              return todoDTO;
             })
-        .map(TodoDTO::of)
         .orElseThrow(ResourceNotFoundException::new);
   }
 
+  public long getChangeSeqOfGroup(long groupId) {
+    return em.createQuery(
+            """
+        SELECT
+            g.changeSeq
+        FROM
+            Group g
+        WHERE
+            g.id = :groupId
+        """,
+            Long.class)
+        .setParameter("groupId", groupId)
+        .getResultStream()
+        .findFirst()
+        .orElseThrow(ResourceNotFoundException::new);
+  }
+
+  public List<TodoDTO> getTodosChangedInGroup(long groupId, long sinceChangeSeq) {
+    return em
+        .createQuery(
+            """
+        SELECT
+            t
+        FROM
+            Todo t
+        WHERE
+            t.group.id = :groupId AND
+            t.changeSeq > :sinceChangeSeq
+        ORDER BY
+            t.changeSeq ASC
+        """,
+            Todo.class)
+        .setParameter("groupId", groupId)
+        .setParameter("sinceChangeSeq", sinceChangeSeq)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList()
+        .stream()
+        .map(TodoDTO::of)
+        .toList();
+  }
+
+  public List<Long> getTodoIdsDeletedInGroup(long groupId, long sinceChangeSeq) {
+    return em.createQuery(
+            """
+        SELECT
+            tt.todoId
+        FROM
+            TodoTombstone tt
+        WHERE
+            tt.groupId = :groupId AND
+            tt.changeSeq > :sinceChangeSeq
+        ORDER BY
+            tt.changeSeq ASC
+        """,
+            Long.class)
+        .setParameter("groupId", groupId)
+        .setParameter("sinceChangeSeq", sinceChangeSeq)
+        .getResultList();
+  }
+
+  public void deleteTombstonesBefore(ZonedDateTime deletedBefore) {
+    em.createQuery(
+            """
+        DELETE
+        FROM
+          TodoTombstone tt
+        WHERE
+          tt.deletedAt < :deletedBefore
+        """)
+        .setParameter("deletedBefore", deletedBefore)
+        .executeUpdate();
+  }
+
+  public Optional<Long> getTodoIdByIdempotencyKey(
+      long userId, String idempotencyKey, ZonedDateTime createdAfter) {
+    return em.createQuery(
+            """
+        SELECT
+            tik.todoId
+        FROM
+            TodoIdempotencyKey tik
+        WHERE
+            tik.userId = :userId AND
+            tik.idempotencyKey = :idempotencyKey AND
+            tik.createdAt >= :createdAfter
+        """,
+            Long.class)
+        .setParameter("userId", userId)
+        .setParameter("idempotencyKey", idempotencyKey)
+        .setParameter("createdAfter", createdAfter)
+        .getResultStream()
+        .findFirst();
+  }
+
+  public void lockGroup(long groupId) {
+    em.createNativeQuery(
+            """
+        SELECT
+            "id"
+        FROM
+            "group"
+        WHERE
+            "id" = :groupId
+        FOR UPDATE
+        """)
+        .setParameter("groupId", groupId)
+        .getResultList();
+  }
+
+  public void saveIdempotencyKey(long userId, String idempotencyKey, long todoId) {
+    TodoIdempotencyKey todoIdempotencyKey = new TodoIdempotencyKey();
+    todoIdempotencyKey.setUserId(userId);
+    todoIdempotencyKey.setIdempotencyKey(idempotencyKey);
+    todoIdempotencyKey.setTodoId(todoId);
+
+    em.persist(todoIdempotencyKey);
+  }
+
+  public void deleteIdempotencyKeysBefore(ZonedDateTime createdBefore) {
+    em.createQuery(
+            """
+        DELETE
+        FROM
+          TodoIdempotencyKey tik
+        WHERE
+          tik.createdAt < :createdBefore
+        """)
+        .setParameter("createdBefore", createdBefore)
+        .executeUpdate();
+  }
+
   public void deleteByGroupId(long groupId) {
     em.createQuery(
             """
@@ -137,5 +405,24 @@ public class TodoRepository {
         """)
         .setParameter("groupId", groupId)
         .executeUpdate();
+
+    groupTodoStatsRepository.deleteByGroupId(groupId);
+  }
+
+  private long nextChangeSeq(long groupId) {
+    int updated =
+        em.createQuery(
+                """
+        UPDATE
+          Group g
+        SET
+          g.changeSeq = g.changeSeq + 1
+        WHERE
+          g.id = :groupId
+        """)
+            .setParameter("groupId", groupId)
+            .executeUpdate();
+
+    return updated == 0 ? 0 : getChangeSeqOfGroup(groupId);
   }
 }
@@ -0,0 +1,92 @@
+package rest.felix.back.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.entity.Todo;
+
+@Repository
+public class TodoSearchRepository {
+
+  private final EntityManager em;
+  private final boolean fullTextEnabled;
+
+  public TodoSearchRepository(
+      EntityManager em, @Value("${todo.search.full_text}") boolean fullTextEnabled) {
+    this.em = em;
+    this.fullTextEnabled = fullTextEnabled;
+  }
+
+  public List<TodoDTO> searchTodosOfUser(long userId, String query, int page, int size) {
+    List<Todo> todos =
+        fullTextEnabled
+            ? fullTextSearch(userId, query, page, size)
+            : patternSearch(userId, query, page, size);
+
+    return todos.stream().map(TodoDTO::of).toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Todo> fullTextSearch(long userId, String query, int page, int size) {
+    return em.createNativeQuery(
+            """
+        SELECT
+            t.*
+        FROM
+            "todo" t
+        JOIN
+            "user_group" ug ON ug."group_id" = t."group_id",
+            websearch_to_tsquery('simple', :query) q
+        WHERE
+            ug."user_id" = :userId AND
+            t."search_vector" @@ q
+        ORDER BY
+            ts_rank(t."search_vector", q) DESC,
+            t."id" DESC
+        LIMIT :size
+        OFFSET :offset
+        """,
+            Todo.class)
+        .setParameter("query", query)
+        .setParameter("userId", userId)
+        .setParameter("size", size)
+        .setParameter("offset", page * size)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList();
+  }
+
+  private List<Todo> patternSearch(long userId, String query, int page, int size) {
+    String pattern =
+        "%"
+            + query.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_")
+            + "%";
+
+    return em.createQuery(
+            """
+        SELECT
+            t
+        FROM
+            Todo t
+        JOIN
+            UserGroup ug ON ug.group.id = t.group.id
+        WHERE
+            ug.user.id = :userId AND
+            (
+                LOWER(t.title) LIKE :pattern ESCAPE '\\' OR
+                LOWER(t.description) LIKE :pattern ESCAPE '\\'
+            )
+        ORDER BY
+            t.id DESC
+        """,
+            Todo.class)
+        .setParameter("userId", userId)
+        .setParameter("pattern", pattern)
+        .setFirstResult(page * size)
+        .setMaxResults(size)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList();
+  }
+}
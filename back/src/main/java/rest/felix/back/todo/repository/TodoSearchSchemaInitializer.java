@@ -0,0 +1,35 @@
+package rest.felix.back.todo.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "todo.search.full_text", havingValue = "true")
+@DependsOn("entityManagerFactory")
+public class TodoSearchSchemaInitializer {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @PostConstruct
+  public void initialize() {
+    jdbcTemplate.execute(
+        """
+        ALTER TABLE "todo"
+        ADD COLUMN IF NOT EXISTS "search_vector" tsvector
+        GENERATED ALWAYS AS (
+            to_tsvector('simple', coalesce("title", '') || ' ' || coalesce("description", ''))
+        ) STORED
+        """);
+
+    jdbcTemplate.execute(
+        """
+        CREATE INDEX IF NOT EXISTS "idx_todo_search_vector"
+        ON "todo" USING GIN ("search_vector")
+        """);
+  }
+}
@@ -1,27 +1,82 @@
 package rest.felix.back.todo.service;
 
-import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.List;
-import lombok.AllArgsConstructor;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+import rest.felix.back.activity.service.ActivityLogService;
+import rest.felix.back.common.exception.throwable.badrequest.IdempotencyKeyReusedException;
 import rest.felix.back.common.exception.throwable.notfound.ResourceNotFoundException;
 import rest.felix.back.todo.dto.CreateTodoDTO;
+import rest.felix.back.todo.dto.CreatedTodoDTO;
+import rest.felix.back.todo.dto.TodoChangesDTO;
 import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.TodoPageDTO;
+import rest.felix.back.todo.dto.TodoSyncTokenDTO;
 import rest.felix.back.todo.dto.UpdateTodoDTO;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.todo.repository.TodoSearchRepository;
 
 @Service
 @Transactional
-@AllArgsConstructor
 public class TodoService {
 
   private final TodoRepository todoRepository;
+  private final TodoSearchRepository todoSearchRepository;
+  private final ActivityLogService activityLogService;
+  private final Duration tombstoneTtl;
+  private final Duration idempotencyKeyTtl;
 
+  public TodoService(
+      TodoRepository todoRepository,
+      TodoSearchRepository todoSearchRepository,
+      ActivityLogService activityLogService,
+      @Value("${todo.sync.tombstone_ttl_ms}") long tombstoneTtlMillis,
+      @Value("${todo.idempotency.key_ttl_ms}") long idempotencyKeyTtlMillis) {
+    this.todoRepository = todoRepository;
+    this.todoSearchRepository = todoSearchRepository;
+    this.activityLogService = activityLogService;
+    this.tombstoneTtl = Duration.ofMillis(tombstoneTtlMillis);
+    this.idempotencyKeyTtl = Duration.ofMillis(idempotencyKeyTtlMillis);
+  }
+
+  @Transactional(readOnly = true)
   public List<TodoDTO> getTodosInGroup(long groupId) {
 
     return todoRepository.getTodosInGroup(groupId);
   }
 
+  @Transactional(readOnly = true)
+  public TodoChangesDTO getTodoChangesInGroup(long groupId, String since) {
+    ZonedDateTime now = ZonedDateTime.now();
+    TodoSyncTokenDTO sinceToken = since == null ? null : TodoSyncTokenDTO.decode(since);
+
+    long changeSeq = todoRepository.getChangeSeqOfGroup(groupId);
+    String syncToken =
+        new TodoSyncTokenDTO(groupId, changeSeq, now.toInstant().toEpochMilli()).encode();
+
+    if (sinceToken == null
+        || sinceToken.getGroupId() != groupId
+        || sinceToken.getChangeSeq() > changeSeq
+        || sinceToken.getIssuedAt() < now.minus(tombstoneTtl).toInstant().toEpochMilli()) {
+      return new TodoChangesDTO(
+          todoRepository.getTodosInGroup(groupId), List.of(), syncToken, true);
+    }
+
+    return new TodoChangesDTO(
+        todoRepository.getTodosChangedInGroup(groupId, sinceToken.getChangeSeq()),
+        todoRepository.getTodoIdsDeletedInGroup(groupId, sinceToken.getChangeSeq()),
+        syncToken,
+        false);
+  }
+
+  @Transactional(readOnly = true)
   public TodoDTO getTodoInGroup(long groupId, long todoId) {
 
     return todoRepository
@@ -29,18 +84,106 @@ public class TodoService {
         .orElseThrow(ResourceNotFoundException::new);
   }
 
+  @Transactional(readOnly = true)
+  public TodoPageDTO getTodosOfUser(
+      long userId, TodoStatus status, Long authorId, Long cursor, int size) {
+
+    return todoRepository.getTodosOfUser(userId, status, authorId, cursor, size);
+  }
+
+  @Transactional(readOnly = true)
+  public List<TodoDTO> searchTodosOfUser(long userId, String query, int page, int size) {
+
+    return todoSearchRepository.searchTodosOfUser(userId, query, page, size);
+  }
+
+  public Optional<TodoDTO> getTodoCreatedWithKey(long userId, long groupId, String idempotencyKey) {
+
+    return todoRepository
+        .getTodoIdByIdempotencyKey(
+            userId, idempotencyKey, ZonedDateTime.now().minus(idempotencyKeyTtl))
+        .map(
+            todoId ->
+                todoRepository
+                    .getTodoInGroup(groupId, todoId)
+                    .orElseThrow(IdempotencyKeyReusedException::new));
+  }
+
   public TodoDTO createTodo(CreateTodoDTO createTodoDTO) {
 
-    return todoRepository.createTodo(createTodoDTO);
+    return createTodo(createTodoDTO, null).getTodo();
+  }
+
+  public CreatedTodoDTO createTodo(CreateTodoDTO createTodoDTO, String idempotencyKey) {
+
+    if (idempotencyKey != null) {
+      Optional<TodoDTO> createdTodoDTO =
+          getTodoCreatedWithKey(
+              createTodoDTO.getAuthorId(), createTodoDTO.getGroupId(), idempotencyKey);
+
+      if (createdTodoDTO.isEmpty()) {
+        // A retry racing the first attempt waits here until that attempt commits, then replays it.
+        todoRepository.lockGroup(createTodoDTO.getGroupId());
+        createdTodoDTO =
+            getTodoCreatedWithKey(
+                createTodoDTO.getAuthorId(), createTodoDTO.getGroupId(), idempotencyKey);
+      }
+
+      if (createdTodoDTO.isPresent()) {
+        return new CreatedTodoDTO(createdTodoDTO.get(), true);
+      }
+    }
+
+    TodoDTO todoDTO = todoRepository.createTodo(createTodoDTO);
+
+    if (idempotencyKey != null) {
+      todoRepository.saveIdempotencyKey(
+          createTodoDTO.getAuthorId(), idempotencyKey, todoDTO.getId());
+    }
+
+    activityLogService.record(
+        todoDTO.getGroupId(),
+        todoDTO.getAuthorId(),
+        ActivityType.TODO_CREATED,
+        todoDTO.getId(),
+        todoDTO.getTitle());
+
+    return new CreatedTodoDTO(todoDTO, false);
+  }
+
+  public void deleteTodo(long todoId, long actorId) {
+
+    todoRepository
+        .deleteTodo(todoId)
+        .ifPresent(
+            groupId ->
+                activityLogService.record(
+                    groupId, actorId, ActivityType.TODO_DELETED, todoId, null));
+  }
+
+  public TodoDTO updateTodo(UpdateTodoDTO updateTodoDTO, long actorId) {
+
+    TodoDTO todoDTO = todoRepository.updateTodo(updateTodoDTO);
+
+    activityLogService.record(
+        todoDTO.getGroupId(),
+        actorId,
+        ActivityType.TODO_UPDATED,
+        todoDTO.getId(),
+        todoDTO.getStatus().name());
+
+    return todoDTO;
   }
 
-  public void deleteTodo(long todoId) {
+  @Scheduled(fixedDelayString = "${todo.sync.tombstone_purge_interval_ms}")
+  public void purgeExpiredTombstones() {
 
-    todoRepository.deleteTodo(todoId);
+    todoRepository.deleteTombstonesBefore(ZonedDateTime.now().minus(tombstoneTtl));
   }
 
-  public TodoDTO updateTodo(UpdateTodoDTO updateTodoDTO) {
+  @Scheduled(fixedDelayString = "${todo.idempotency.purge_interval_ms}")
+  public void purgeExpiredIdempotencyKeys() {
 
-    return todoRepository.updateTodo(updateTodoDTO);
+    todoRepository.deleteIdempotencyKeysBefore(ZonedDateTime.now().minus(idempotencyKeyTtl));
   }
 }
@@ -1,9 +1,14 @@
 package rest.felix.back.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
@@ -14,14 +19,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import rest.felix.back.common.exception.throwable.unauthorized.InvalidRefreshTokenException;
 import rest.felix.back.common.exception.throwable.unauthorized.NoMatchingUserException;
+import rest.felix.back.common.ratelimit.RateLimiter;
+import rest.felix.back.common.security.AccessTokenClaims;
+import rest.felix.back.common.security.JwtKeyRing;
 import rest.felix.back.common.security.JwtTokenProvider;
 import rest.felix.back.common.security.PasswordService;
+import rest.felix.back.common.security.TokenRevocationList;
+import rest.felix.back.user.dto.IssuedTokensDTO;
 import rest.felix.back.user.dto.SignInRequestDTO;
 import rest.felix.back.user.dto.SignupDTO;
 import rest.felix.back.user.dto.SignupRequestDTO;
 import rest.felix.back.user.dto.UserDTO;
 import rest.felix.back.user.dto.UserResponseDTO;
+import rest.felix.back.user.service.TokenService;
 import rest.felix.back.user.service.UserService;
 
 @RestController
@@ -32,6 +44,10 @@ public class UserController {
   private final UserService userService;
   private final PasswordService passwordService;
   private final JwtTokenProvider jwtTokenProvider;
+  private final RateLimiter rateLimiter;
+  private final TokenService tokenService;
+  private final TokenRevocationList tokenRevocationList;
+  private final JwtKeyRing jwtKeyRing;
 
   @PostMapping
   public ResponseEntity<UserResponseDTO> signUp(
@@ -55,46 +71,50 @@ public class UserController {
 
   @PostMapping("/token/access-token")
   public ResponseEntity<UserResponseDTO> createAccessToken(
-      @RequestBody @Valid SignInRequestDTO signInRequestDTO) {
+      HttpServletRequest request, @RequestBody @Valid SignInRequestDTO signInRequestDTO) {
 
     String givenUsername = signInRequestDTO.getUsername();
     String givenPassword = signInRequestDTO.getPassword();
 
+    rateLimiter.acquire("login-username", givenUsername + "@" + request.getRemoteAddr());
+
     UserDTO userDTO =
         userService
             .getByUsername(givenUsername)
             .filter(DTO -> passwordService.verifyPassword(givenPassword, DTO.getHashedPassword()))
             .orElseThrow(NoMatchingUserException::new);
 
-    String token = jwtTokenProvider.generateToken(userDTO.getUsername());
+    return issuedTokensResponse(tokenService.issueTokens(userDTO));
+  }
 
-    ResponseCookie authCookie =
-        ResponseCookie.from("accessToken", token)
-            .path("/")
-            .httpOnly(true)
-            .secure(false)
-            .maxAge(Duration.ofHours(24))
-            .sameSite("Strict")
-            .build();
+  @PostMapping("/token/refresh")
+  public ResponseEntity<UserResponseDTO> refreshAccessToken(
+      @CookieValue(name = "refreshToken", required = false) String refreshToken) {
 
-    return ResponseEntity.status(201)
-        .header(HttpHeaders.SET_COOKIE, authCookie.toString())
-        .body(new UserResponseDTO(userDTO.getId(), userDTO.getUsername(), userDTO.getNickname()));
+    String givenRefreshToken =
+        Optional.ofNullable(refreshToken).orElseThrow(InvalidRefreshTokenException::new);
+
+    return issuedTokensResponse(tokenService.rotateTokens(givenRefreshToken));
+  }
+
+  @GetMapping("/token/jwks")
+  public ResponseEntity<Map<String, List<Map<String, String>>>> getJsonWebKeySet() {
+
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+        .body(Map.of("keys", jwtKeyRing.jwks(Instant.now())));
   }
 
   @DeleteMapping("/token")
-  public ResponseEntity logOutUser() {
-    ResponseCookie emptyCookie =
-        ResponseCookie.from("accessToken", "")
-            .path("/")
-            .httpOnly(true)
-            .secure(false)
-            .maxAge(0)
-            .sameSite("Strict")
-            .build();
+  public ResponseEntity logOutUser(
+      @CookieValue(name = "accessToken", required = false) String accessToken,
+      @CookieValue(name = "refreshToken", required = false) String refreshToken) {
+
+    tokenService.revokeTokens(accessToken, refreshToken);
 
     return ResponseEntity.status(204)
-        .header(HttpHeaders.SET_COOKIE, emptyCookie.toString())
+        .header(HttpHeaders.SET_COOKIE, accessTokenCookie("", Duration.ZERO).toString())
+        .header(HttpHeaders.SET_COOKIE, refreshTokenCookie("", Duration.ZERO).toString())
         .build();
   }
 
@@ -105,7 +125,9 @@ public class UserController {
     return ResponseEntity.ok()
         .body(
             Optional.ofNullable(accessToken)
-                .map(jwtTokenProvider::getUsernameFromToken)
+                .flatMap(jwtTokenProvider::parseToken)
+                .filter(claims -> !tokenRevocationList.isRevoked(claims.tokenId()))
+                .map(AccessTokenClaims::username)
                 .flatMap(userService::getByUsername)
                 .map(
                     userDTO ->
@@ -113,4 +135,43 @@ public class UserController {
                             userDTO.getId(), userDTO.getUsername(), userDTO.getNickname()))
                 .orElseThrow(NoMatchingUserException::new));
   }
+
+  private ResponseEntity<UserResponseDTO> issuedTokensResponse(IssuedTokensDTO issuedTokensDTO) {
+    return ResponseEntity.status(201)
+        .header(
+            HttpHeaders.SET_COOKIE,
+            accessTokenCookie(
+                    issuedTokensDTO.getAccessToken(),
+                    Duration.ofMillis(jwtTokenProvider.getExpirationTime()))
+                .toString())
+        .header(
+            HttpHeaders.SET_COOKIE,
+            refreshTokenCookie(issuedTokensDTO.getRefreshToken(), tokenService.getRefreshTokenTtl())
+                .toString())
+        .body(
+            new UserResponseDTO(
+                issuedTokensDTO.getUserId(),
+                issuedTokensDTO.getUsername(),
+                issuedTokensDTO.getNickname()));
+  }
+
+  private ResponseCookie accessTokenCookie(String token, Duration maxAge) {
+    return ResponseCookie.from("accessToken", token)
+        .path("/")
+        .httpOnly(true)
+        .secure(false)
+        .maxAge(maxAge)
+        .sameSite("Strict")
+        .build();
+  }
+
+  private ResponseCookie refreshTokenCookie(String token, Duration maxAge) {
+    return ResponseCookie.from("refreshToken", token)
+        .path("/api/v1/user/token")
+        .httpOnly(true)
+        .secure(false)
+        .maxAge(maxAge)
+        .sameSite("Strict")
+        .build();
+  }
 }
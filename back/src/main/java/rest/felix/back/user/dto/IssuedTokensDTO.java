@@ -0,0 +1,15 @@
+package rest.felix.back.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IssuedTokensDTO {
+
+  private final Long userId;
+  private final String username;
+  private final String nickname;
+  private final String accessToken;
+  private final String refreshToken;
+}
@@ -0,0 +1,18 @@
+package rest.felix.back.user.dto;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RefreshTokenDTO {
+
+  private final Long id;
+  private final Long userId;
+  private final String username;
+  private final String nickname;
+  private final String familyId;
+  private final ZonedDateTime expiresAt;
+  private final ZonedDateTime revokedAt;
+}
@@ -0,0 +1,14 @@
+package rest.felix.back.user.dto;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RevokedAccessTokenDTO {
+
+  private final String tokenId;
+  private final ZonedDateTime expiresAt;
+  private final ZonedDateTime revokedAt;
+}
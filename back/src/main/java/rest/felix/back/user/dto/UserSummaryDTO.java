@@ -0,0 +1,13 @@
+package rest.felix.back.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSummaryDTO {
+
+  private final Long id;
+  private final String username;
+  private final String nickname;
+}
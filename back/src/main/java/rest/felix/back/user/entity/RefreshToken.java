@@ -0,0 +1,49 @@
+package rest.felix.back.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(indexes = @Index(name = "idx_refresh_token_family_id", columnList = "family_id"))
+public class RefreshToken {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Setter(AccessLevel.NONE)
+  private Long id;
+
+  @ToString.Exclude
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(nullable = false)
+  private User user;
+
+  @Column(nullable = false, length = 64, unique = true)
+  private String tokenHash;
+
+  @Column(nullable = false, length = 36)
+  private String familyId;
+
+  @Column(nullable = false)
+  private ZonedDateTime expiresAt;
+
+  private ZonedDateTime revokedAt;
+
+  @CreationTimestamp private ZonedDateTime createdAt;
+}
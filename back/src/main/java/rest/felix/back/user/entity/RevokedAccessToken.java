@@ -0,0 +1,29 @@
+package rest.felix.back.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(indexes = @Index(name = "idx_revoked_access_token_revoked_at", columnList = "revoked_at"))
+public class RevokedAccessToken {
+
+  @Id
+  @Column(length = 36)
+  private String tokenId;
+
+  @Column(nullable = false)
+  private ZonedDateTime expiresAt;
+
+  @Column(nullable = false)
+  private ZonedDateTime revokedAt;
+}
@@ -0,0 +1,100 @@
+package rest.felix.back.user.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Repository;
+import rest.felix.back.user.dto.RefreshTokenDTO;
+import rest.felix.back.user.entity.RefreshToken;
+import rest.felix.back.user.entity.User;
+
+@Repository
+@AllArgsConstructor
+public class RefreshTokenRepository {
+
+  private final EntityManager em;
+
+  public void createRefreshToken(
+      long userId, String tokenHash, String familyId, ZonedDateTime expiresAt) {
+    RefreshToken refreshToken = new RefreshToken();
+    refreshToken.setUser(em.getReference(User.class, userId));
+    refreshToken.setTokenHash(tokenHash);
+    refreshToken.setFamilyId(familyId);
+    refreshToken.setExpiresAt(expiresAt);
+
+    em.persist(refreshToken);
+  }
+
+  public Optional<RefreshTokenDTO> findByTokenHash(String tokenHash) {
+    return em.createQuery(
+            """
+            SELECT
+                new rest.felix.back.user.dto.RefreshTokenDTO(
+                    rt.id,
+                    u.id,
+                    u.username,
+                    u.nickname,
+                    rt.familyId,
+                    rt.expiresAt,
+                    rt.revokedAt
+                )
+            FROM
+                RefreshToken rt
+            JOIN
+                rt.user u
+            WHERE
+                rt.tokenHash = :tokenHash
+            """,
+            RefreshTokenDTO.class)
+        .setParameter("tokenHash", tokenHash)
+        .getResultStream()
+        .findFirst();
+  }
+
+  public boolean revoke(long refreshTokenId, ZonedDateTime revokedAt) {
+    return em.createQuery(
+                """
+            UPDATE
+                RefreshToken rt
+            SET
+                rt.revokedAt = :revokedAt
+            WHERE
+                rt.id = :refreshTokenId
+                AND rt.revokedAt IS NULL
+            """)
+            .setParameter("revokedAt", revokedAt)
+            .setParameter("refreshTokenId", refreshTokenId)
+            .executeUpdate()
+        == 1;
+  }
+
+  public void revokeFamily(String familyId, ZonedDateTime revokedAt) {
+    em.createQuery(
+            """
+        UPDATE
+            RefreshToken rt
+        SET
+            rt.revokedAt = :revokedAt
+        WHERE
+            rt.familyId = :familyId
+            AND rt.revokedAt IS NULL
+        """)
+        .setParameter("revokedAt", revokedAt)
+        .setParameter("familyId", familyId)
+        .executeUpdate();
+  }
+
+  public void deleteExpired(ZonedDateTime now) {
+    em.createQuery(
+            """
+        DELETE
+        FROM
+            RefreshToken rt
+        WHERE
+            rt.expiresAt < :now
+        """)
+        .setParameter("now", now)
+        .executeUpdate();
+  }
+}
@@ -0,0 +1,61 @@
+package rest.felix.back.user.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import rest.felix.back.user.dto.RevokedAccessTokenDTO;
+import rest.felix.back.user.entity.RevokedAccessToken;
+
+@Repository
+@AllArgsConstructor
+public class RevokedAccessTokenRepository {
+
+  private final EntityManager em;
+
+  public void revoke(String tokenId, ZonedDateTime expiresAt, ZonedDateTime revokedAt) {
+    RevokedAccessToken revokedAccessToken = new RevokedAccessToken();
+    revokedAccessToken.setTokenId(tokenId);
+    revokedAccessToken.setExpiresAt(expiresAt);
+    revokedAccessToken.setRevokedAt(revokedAt);
+
+    em.merge(revokedAccessToken);
+  }
+
+  public List<RevokedAccessTokenDTO> findRevokedSince(ZonedDateTime since, ZonedDateTime now) {
+    return em.createQuery(
+            """
+            SELECT
+                new rest.felix.back.user.dto.RevokedAccessTokenDTO(
+                    r.tokenId,
+                    r.expiresAt,
+                    r.revokedAt
+                )
+            FROM
+                RevokedAccessToken r
+            WHERE
+                r.revokedAt >= :since
+                AND r.expiresAt > :now
+            """,
+            RevokedAccessTokenDTO.class)
+        .setParameter("since", since)
+        .setParameter("now", now)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList();
+  }
+
+  public void deleteExpired(ZonedDateTime now) {
+    em.createQuery(
+            """
+        DELETE
+        FROM
+            RevokedAccessToken r
+        WHERE
+            r.expiresAt < :now
+        """)
+        .setParameter("now", now)
+        .executeUpdate();
+  }
+}
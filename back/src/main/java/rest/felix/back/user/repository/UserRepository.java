@@ -3,12 +3,18 @@ package rest.felix.back.user.repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.TypedQuery;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
-import rest.felix.back.common.exception.throwable.badrequest.UsernameTakenException;
 import rest.felix.back.user.dto.SignupDTO;
+import rest.felix.back.user.dto.UserSummaryDTO;
 import rest.felix.back.user.entity.User;
 
 @Repository
@@ -17,21 +23,45 @@ public class UserRepository {
 
   private final EntityManager em;
 
-  public User createUser(SignupDTO signupDTO) throws UsernameTakenException {
-    try {
-      User user = new User();
+  public Optional<Long> createUser(SignupDTO signupDTO) {
+    SessionImplementor session = em.unwrap(SessionImplementor.class);
 
-      user.setHashedPassword(signupDTO.getHashedPassword());
-      user.setNickname(signupDTO.getNickname());
-      user.setUsername(signupDTO.getUsername());
+    String sql =
+        session
+            .getJdbcSessionContext()
+            .getStatementInspector()
+            .inspect(
+                """
+                INSERT INTO "user" (
+                    "username",
+                    "hashed_password",
+                    "nickname",
+                    "created_at",
+                    "updated_at"
+                ) VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT DO NOTHING
+                """);
 
-      em.persist(user);
+    return session.doReturningWork(
+        connection -> {
+          try (PreparedStatement statement =
+              connection.prepareStatement(sql, new String[] {"id"})) {
+            OffsetDateTime now = OffsetDateTime.now();
 
-      return user;
-    } catch (DataIntegrityViolationException e) {
+            statement.setString(1, signupDTO.getUsername());
+            statement.setString(2, signupDTO.getHashedPassword());
+            statement.setString(3, signupDTO.getNickname());
+            statement.setObject(4, now);
+            statement.setObject(5, now);
+            statement.executeUpdate();
 
-      throw new UsernameTakenException();
-    }
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+              return generatedKeys.next()
+                  ? Optional.of(generatedKeys.getLong(1))
+                  : Optional.empty();
+            }
+          }
+        });
   }
 
   public Optional<User> getByUsername(String username) {
@@ -39,6 +69,7 @@ public class UserRepository {
       TypedQuery<User> query =
           em.createQuery("SELECT u FROM User u WHERE u.username = :username", User.class);
       query.setParameter("username", username);
+      query.setHint(HibernateHints.HINT_READ_ONLY, true);
 
       User user = query.getSingleResult();
       return Optional.of(user);
@@ -56,6 +87,7 @@ public class UserRepository {
     try {
       TypedQuery<User> query = em.createQuery("SELECT u FROM User u WHERE u.id = :id", User.class);
       query.setParameter("id", userId);
+      query.setHint(HibernateHints.HINT_READ_ONLY, true);
 
       User user = query.getSingleResult();
       return Optional.of(user);
@@ -64,4 +96,43 @@ public class UserRepository {
       return Optional.empty();
     }
   }
+
+  public List<UserSummaryDTO> getSummariesByIds(Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+
+    return em.createQuery(
+            """
+        SELECT
+            new rest.felix.back.user.dto.UserSummaryDTO(u.id, u.username, u.nickname)
+        FROM
+            User u
+        WHERE
+            u.id IN :userIds
+        """,
+            UserSummaryDTO.class)
+        .setParameter("userIds", userIds)
+        .getResultList();
+  }
+
+  public List<String> getExistingUsernames(Collection<String> usernames) {
+    if (usernames.isEmpty()) {
+      return List.of();
+    }
+
+    return em.createQuery(
+            """
+        SELECT
+            u.username
+        FROM
+            User u
+        WHERE
+            u.username IN :usernames
+        """,
+            String.class)
+        .setParameter("usernames", usernames)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList();
+  }
 }
@@ -0,0 +1,142 @@
+package rest.felix.back.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rest.felix.back.common.exception.throwable.unauthorized.InvalidRefreshTokenException;
+import rest.felix.back.common.security.JwtTokenProvider;
+import rest.felix.back.common.security.TokenRevocationList;
+import rest.felix.back.user.dto.IssuedTokensDTO;
+import rest.felix.back.user.dto.RefreshTokenDTO;
+import rest.felix.back.user.dto.UserDTO;
+import rest.felix.back.user.repository.RefreshTokenRepository;
+import rest.felix.back.user.repository.RevokedAccessTokenRepository;
+
+@Service
+@Transactional
+public class TokenService {
+
+  private static final SecureRandom secureRandom = new SecureRandom();
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+  private final TokenRevocationList tokenRevocationList;
+  private final JwtTokenProvider jwtTokenProvider;
+  private final Duration refreshTokenTtl;
+
+  public TokenService(
+      RefreshTokenRepository refreshTokenRepository,
+      RevokedAccessTokenRepository revokedAccessTokenRepository,
+      TokenRevocationList tokenRevocationList,
+      JwtTokenProvider jwtTokenProvider,
+      @Value("${jwt.refresh_token.ttl}") long refreshTokenTtlMillis) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+    this.tokenRevocationList = tokenRevocationList;
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.refreshTokenTtl = Duration.ofMillis(refreshTokenTtlMillis);
+  }
+
+  public Duration getRefreshTokenTtl() {
+    return refreshTokenTtl;
+  }
+
+  public IssuedTokensDTO issueTokens(UserDTO userDTO) {
+    String refreshToken =
+        createRefreshToken(userDTO.getId(), UUID.randomUUID().toString(), ZonedDateTime.now());
+
+    return new IssuedTokensDTO(
+        userDTO.getId(),
+        userDTO.getUsername(),
+        userDTO.getNickname(),
+        jwtTokenProvider.generateToken(userDTO.getUsername()),
+        refreshToken);
+  }
+
+  @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+  public IssuedTokensDTO rotateTokens(String refreshToken) {
+    ZonedDateTime now = ZonedDateTime.now();
+
+    RefreshTokenDTO refreshTokenDTO =
+        refreshTokenRepository
+            .findByTokenHash(hash(refreshToken))
+            .filter(token -> token.getExpiresAt().isAfter(now))
+            .orElseThrow(InvalidRefreshTokenException::new);
+
+    if (refreshTokenDTO.getRevokedAt() != null
+        || !refreshTokenRepository.revoke(refreshTokenDTO.getId(), now)) {
+      refreshTokenRepository.revokeFamily(refreshTokenDTO.getFamilyId(), now);
+      throw new InvalidRefreshTokenException();
+    }
+
+    String rotatedRefreshToken =
+        createRefreshToken(refreshTokenDTO.getUserId(), refreshTokenDTO.getFamilyId(), now);
+
+    return new IssuedTokensDTO(
+        refreshTokenDTO.getUserId(),
+        refreshTokenDTO.getUsername(),
+        refreshTokenDTO.getNickname(),
+        jwtTokenProvider.generateToken(refreshTokenDTO.getUsername()),
+        rotatedRefreshToken);
+  }
+
+  public void revokeTokens(String accessToken, String refreshToken) {
+    ZonedDateTime now = ZonedDateTime.now();
+
+    if (refreshToken != null) {
+      refreshTokenRepository
+          .findByTokenHash(hash(refreshToken))
+          .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), now));
+    }
+
+    if (accessToken != null) {
+      jwtTokenProvider
+          .parseToken(accessToken)
+          .ifPresent(
+              claims -> {
+                revokedAccessTokenRepository.revoke(
+                    claims.tokenId(), claims.expiresAt().atZone(now.getZone()), now);
+                tokenRevocationList.add(claims.tokenId(), claims.expiresAt());
+              });
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.refresh_token.purge_interval_ms}")
+  public void purgeExpiredTokens() {
+    ZonedDateTime now = ZonedDateTime.now();
+
+    refreshTokenRepository.deleteExpired(now);
+    revokedAccessTokenRepository.deleteExpired(now);
+  }
+
+  private String createRefreshToken(long userId, String familyId, ZonedDateTime now) {
+    byte[] bytes = new byte[32];
+    secureRandom.nextBytes(bytes);
+    String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    refreshTokenRepository.createRefreshToken(
+        userId, hash(refreshToken), familyId, now.plus(refreshTokenTtl));
+
+    return refreshToken;
+  }
+
+  private static String hash(String token) {
+    try {
+      return HexFormat.of()
+          .formatHex(
+              MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
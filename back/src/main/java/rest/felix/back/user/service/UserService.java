@@ -1,16 +1,19 @@
 package rest.felix.back.user.service;
 
-import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import rest.felix.back.common.exception.throwable.badrequest.ConfirmPasswordMismatchException;
 import rest.felix.back.common.exception.throwable.badrequest.UsernameTakenException;
 import rest.felix.back.common.exception.throwable.unauthorized.NoMatchingUserException;
 import rest.felix.back.user.dto.SignupDTO;
 import rest.felix.back.user.dto.SignupRequestDTO;
 import rest.felix.back.user.dto.UserDTO;
-import rest.felix.back.user.entity.User;
+import rest.felix.back.user.dto.UserSummaryDTO;
 import rest.felix.back.user.repository.UserRepository;
 
 @Service
@@ -20,25 +23,23 @@ public class UserService {
 
   private final UserRepository userRepository;
 
-  public UserDTO signup(SignupDTO signupDTO) {
-    User user = userRepository.createUser(signupDTO);
+  public UserDTO signup(SignupDTO signupDTO) throws UsernameTakenException {
+    long userId = userRepository.createUser(signupDTO).orElseThrow(UsernameTakenException::new);
 
     return new UserDTO(
-        user.getId(), user.getNickname(), user.getUsername(), user.getHashedPassword());
+        userId, signupDTO.getNickname(), signupDTO.getUsername(), signupDTO.getHashedPassword());
   }
 
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void validateSignupRequestDTO(SignupRequestDTO signupRequestDTO)
-      throws ConfirmPasswordMismatchException, UsernameTakenException {
+      throws ConfirmPasswordMismatchException {
 
     if (!signupRequestDTO.getPassword().equals(signupRequestDTO.getConfirmPassword())) {
       throw new ConfirmPasswordMismatchException();
     }
-
-    if (userRepository.getByUsername(signupRequestDTO.getUsername()).isPresent()) {
-      throw new UsernameTakenException();
-    }
   }
 
+  @Transactional(readOnly = true)
   public Optional<UserDTO> getByUsername(String username) throws NoMatchingUserException {
 
     return userRepository
@@ -51,4 +52,10 @@ public class UserService {
                     user.getUsername(),
                     user.getHashedPassword()));
   }
+
+  @Transactional(readOnly = true)
+  public List<UserSummaryDTO> getSummariesByIds(Collection<Long> userIds) {
+
+    return userRepository.getSummariesByIds(userIds);
+  }
 }
@@ -0,0 +1,41 @@
+package rest.felix.back.user.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import rest.felix.back.user.dto.UserSummaryDTO;
+
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class UserSummaryLoader {
+
+  private final UserService userService;
+  private final Map<Long, UserSummaryDTO> loaded = new HashMap<>();
+
+  public Map<Long, UserSummaryDTO> loadAll(Collection<Long> userIds) {
+    List<Long> missingUserIds =
+        userIds.stream().distinct().filter(userId -> !loaded.containsKey(userId)).toList();
+
+    if (!missingUserIds.isEmpty()) {
+      userService
+          .getSummariesByIds(missingUserIds)
+          .forEach(userSummaryDTO -> loaded.put(userSummaryDTO.getId(), userSummaryDTO));
+    }
+
+    Map<Long, UserSummaryDTO> result = new HashMap<>();
+    userIds.stream()
+        .filter(loaded::containsKey)
+        .forEach(userId -> result.put(userId, loaded.get(userId)));
+
+    return result;
+  }
+
+  public void prime(UserSummaryDTO userSummaryDTO) {
+    loaded.putIfAbsent(userSummaryDTO.getId(), userSummaryDTO);
+  }
+}
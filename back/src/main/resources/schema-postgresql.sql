@@ -0,0 +1,77 @@
+CREATE TABLE IF NOT EXISTS "activity_log" (
+    "id" BIGSERIAL,
+    "group_id" BIGINT NOT NULL,
+    "actor_id" BIGINT,
+    "activity_type" VARCHAR(50) NOT NULL,
+    "target_id" BIGINT,
+    "detail" VARCHAR(1000),
+    "occurred_at" TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY ("id", "occurred_at")
+) PARTITION BY RANGE ("occurred_at");
+
+CREATE INDEX IF NOT EXISTS "activity_log_group_id_id_idx" ON "activity_log" ("group_id", "id");
+
+CREATE TABLE IF NOT EXISTS "activity_log_default" PARTITION OF "activity_log" DEFAULT;
+
+DO $$
+DECLARE
+    target RECORD;
+    existing_constraint_name TEXT;
+BEGIN
+    FOR target IN
+        SELECT
+            *
+        FROM (
+            VALUES
+                ('user', 'uk_user_username', ARRAY['username']),
+                ('user_group', 'uk_user_group_user_id_group_id', ARRAY['group_id', 'user_id']),
+                ('todo', 'uk_todo_group_id_order_todo_status', ARRAY['group_id', 'order', 'todo_status'])
+        ) AS t("table_name", "constraint_name", "column_names")
+    LOOP
+        SELECT
+            c."conname"
+        INTO
+            existing_constraint_name
+        FROM
+            "pg_constraint" c
+        WHERE
+            c."conrelid" = to_regclass(format('%I', target."table_name"))
+            AND c."contype" = 'u'
+            AND c."conname" <> target."constraint_name"
+            AND ARRAY(
+                SELECT
+                    a."attname"::TEXT
+                FROM
+                    "pg_attribute" a
+                WHERE
+                    a."attrelid" = c."conrelid"
+                    AND a."attnum" = ANY (c."conkey")
+                ORDER BY
+                    a."attname"
+            ) = target."column_names";
+
+        IF existing_constraint_name IS NULL THEN
+            CONTINUE;
+        ELSIF EXISTS (
+            SELECT
+                1
+            FROM
+                "pg_constraint" c
+            WHERE
+                c."conrelid" = to_regclass(format('%I', target."table_name"))
+                AND c."conname" = target."constraint_name"
+        ) THEN
+            EXECUTE format(
+                'ALTER TABLE %I DROP CONSTRAINT %I',
+                target."table_name",
+                existing_constraint_name);
+        ELSE
+            EXECUTE format(
+                'ALTER TABLE %I RENAME CONSTRAINT %I TO %I',
+                target."table_name",
+                existing_constraint_name,
+                target."constraint_name");
+        END IF;
+    END LOOP;
+END
+$$;
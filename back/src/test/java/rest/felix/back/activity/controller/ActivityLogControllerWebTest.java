@@ -0,0 +1,161 @@
+package rest.felix.back.activity.controller;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static rest.felix.back.common.util.Fixtures.persistGroup;
+import static rest.felix.back.common.util.Fixtures.persistUser;
+import static rest.felix.back.common.util.Fixtures.persistUserGroup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import jakarta.transaction.Transactional;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import rest.felix.back.activity.dto.ActivityLogDTO;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+import rest.felix.back.activity.service.ActivityLogWriter;
+import rest.felix.back.common.security.JwtTokenProvider;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ActivityLogControllerWebTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private MockMvc mvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private JwtTokenProvider jwtTokenProvider;
+  @Autowired private ActivityLogWriter activityLogWriter;
+
+  private Cookie userCookie(String username) {
+    return new Cookie("accessToken", jwtTokenProvider.generateToken(username));
+  }
+
+  private void writeActivity(Group group, User actor, ActivityType activityType, long targetId) {
+    activityLogWriter.enqueue(
+        new ActivityLogDTO(
+            null,
+            group.getId(),
+            actor.getId(),
+            activityType,
+            targetId,
+            "detail",
+            ZonedDateTime.now()));
+  }
+
+  @Test
+  public void getActivities_HappyPath() throws Exception {
+
+    // Given
+
+    User user = persistUser(em, "username");
+    Group group = persistGroup(em);
+    persistUserGroup(em, user, group, GroupRole.VIEWER);
+    em.flush();
+
+    writeActivity(group, user, ActivityType.TODO_CREATED, 1L);
+    writeActivity(group, user, ActivityType.TODO_UPDATED, 1L);
+    writeActivity(group, user, ActivityType.TODO_DELETED, 1L);
+    activityLogWriter.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    String path = String.format("/api/v1/group/%d/activity", group.getId());
+
+    // When
+
+    ResultActions firstPage =
+        mvc.perform(get(path).cookie(cookie).param("size", "2").accept(MediaType.APPLICATION_JSON));
+
+    long nextCursor =
+        objectMapper
+            .readTree(firstPage.andReturn().getResponse().getContentAsString())
+            .get("nextCursor")
+            .asLong();
+
+    ResultActions secondPage =
+        mvc.perform(
+            get(path)
+                .cookie(cookie)
+                .param("size", "2")
+                .param("cursor", String.valueOf(nextCursor))
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    firstPage
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.activities", hasSize(2)))
+        .andExpect(jsonPath("$.activities[0].activityType", equalTo("TODO_DELETED")))
+        .andExpect(jsonPath("$.activities[1].activityType", equalTo("TODO_UPDATED")))
+        .andExpect(jsonPath("$.activities[0].actorId", equalTo(user.getId().intValue())));
+
+    secondPage
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.activities", hasSize(1)))
+        .andExpect(jsonPath("$.activities[0].activityType", equalTo("TODO_CREATED")))
+        .andExpect(jsonPath("$.nextCursor", nullValue()));
+  }
+
+  @Test
+  public void getActivities_Failure_NotMember() throws Exception {
+
+    // Given
+
+    User user = persistUser(em, "username");
+    Group group = persistGroup(em);
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    String path = String.format("/api/v1/group/%d/activity", group.getId());
+
+    // When
+
+    ResultActions result = mvc.perform(get(path).cookie(cookie).accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isForbidden());
+  }
+
+  @Test
+  public void getActivities_Failure_BadSize() throws Exception {
+
+    // Given
+
+    User user = persistUser(em, "username");
+    Group group = persistGroup(em);
+    persistUserGroup(em, user, group, GroupRole.OWNER);
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    String path = String.format("/api/v1/group/%d/activity", group.getId());
+
+    // When
+
+    ResultActions result =
+        mvc.perform(get(path).cookie(cookie).param("size", "0").accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isBadRequest());
+  }
+}
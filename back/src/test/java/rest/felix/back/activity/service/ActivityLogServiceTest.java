@@ -0,0 +1,95 @@
+package rest.felix.back.activity.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import rest.felix.back.activity.dto.ActivityLogDTO;
+import rest.felix.back.activity.entity.ActivityLog;
+import rest.felix.back.activity.entity.enumerated.ActivityType;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.todo.dto.CreateTodoDTO;
+import rest.felix.back.todo.service.TodoService;
+import rest.felix.back.user.entity.User;
+
+@Transactional
+@SpringBootTest
+class ActivityLogServiceTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private TodoService todoService;
+  @Autowired private ActivityLogWriter activityLogWriter;
+
+  private List<ActivityLog> activitiesOf(Group group) {
+    return em.createQuery(
+            "SELECT a FROM ActivityLog a WHERE a.groupId = :groupId ORDER BY a.id",
+            ActivityLog.class)
+        .setParameter("groupId", group.getId())
+        .getResultList();
+  }
+
+  @Test
+  void record_HappyPath_DeferredUntilCommit() {
+    // Given
+
+    User user = new User();
+    user.setNickname("nickname");
+    user.setUsername("username");
+    user.setHashedPassword("hashedPassword");
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+    em.persist(group);
+
+    em.flush();
+
+    // When
+
+    todoService.createTodo(
+        new CreateTodoDTO(
+            "todo title", "todo description", "todo order", user.getId(), group.getId()));
+    activityLogWriter.flush();
+
+    // Then
+
+    Assertions.assertEquals(0, activitiesOf(group).size());
+  }
+
+  @Test
+  void flush_HappyPath() {
+    // Given
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+    em.persist(group);
+    em.flush();
+
+    ZonedDateTime now = ZonedDateTime.now();
+
+    for (int i = 0; i < 450; i++) {
+      activityLogWriter.enqueue(
+          new ActivityLogDTO(
+              null, group.getId(), 1L, ActivityType.TODO_CREATED, (long) i, "todo title", now));
+    }
+
+    // When
+
+    activityLogWriter.flush();
+
+    // Then
+
+    List<ActivityLog> activities = activitiesOf(group);
+
+    Assertions.assertEquals(450, activities.size());
+    Assertions.assertEquals(0L, activities.get(0).getTargetId());
+    Assertions.assertEquals(449L, activities.get(449).getTargetId());
+    Assertions.assertEquals(ActivityType.TODO_CREATED, activities.get(0).getActivityType());
+  }
+}
@@ -0,0 +1,185 @@
+package rest.felix.back.common.datasource;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicationRoutingDataSourceTest {
+
+  private DataSource primaryDataSource;
+  private DataSource replicaDataSource;
+
+  @BeforeEach
+  void setUp() {
+    primaryDataSource = h2DataSource("primary");
+    replicaDataSource = h2DataSource("replica");
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    new JdbcTemplate(primaryDataSource).execute("SHUTDOWN");
+    new JdbcTemplate(replicaDataSource).execute("SHUTDOWN");
+  }
+
+  private DataSource h2DataSource(String name) {
+    DataSource dataSource =
+        new DriverManagerDataSource(
+            String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1", name), "sa", "password");
+
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+    jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+
+    return dataSource;
+  }
+
+  private TransactionTemplate transactionTemplate(DataSource dataSource, boolean readOnly) {
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    transactionTemplate.setReadOnly(readOnly);
+
+    return transactionTemplate;
+  }
+
+  private String currentNode(DataSource dataSource, boolean readOnly) {
+    return transactionTemplate(dataSource, readOnly)
+        .execute(
+            status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+  }
+
+  private DataSource routingDataSource(
+      ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+    return new LazyConnectionDataSourceProxy(
+        new ReplicationRoutingDataSource(
+            primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker));
+  }
+
+  @Test
+  void route_HappyPath() {
+    // Given
+
+    ReplicaLagMonitor replicaLagMonitor =
+        new ReplicaLagMonitor(replicaDataSource, "SELECT 0", 1000);
+    replicaLagMonitor.check();
+
+    DataSource dataSource = routingDataSource(replicaLagMonitor, new ReadYourWritesTracker(5000));
+
+    // When
+
+    List<String> nodes = List.of(currentNode(dataSource, true), currentNode(dataSource, false));
+
+    // Then
+
+    Assertions.assertEquals(List.of("replica", "primary"), nodes);
+  }
+
+  @Test
+  void route_HappyPath_ReplicaLagging() {
+    // Given
+
+    ReplicaLagMonitor replicaLagMonitor =
+        new ReplicaLagMonitor(replicaDataSource, "SELECT 5000", 1000);
+    replicaLagMonitor.check();
+
+    DataSource dataSource = routingDataSource(replicaLagMonitor, new ReadYourWritesTracker(5000));
+
+    // When
+
+    String node = currentNode(dataSource, true);
+
+    // Then
+
+    Assertions.assertFalse(replicaLagMonitor.isReplicaAvailable());
+    Assertions.assertEquals("primary", node);
+  }
+
+  @Test
+  void route_HappyPath_ReplicaUnreachable() {
+    // Given
+
+    ReplicaLagMonitor replicaLagMonitor =
+        new ReplicaLagMonitor(replicaDataSource, "SELECT lag FROM missing_table", 1000);
+    replicaLagMonitor.check();
+
+    DataSource dataSource = routingDataSource(replicaLagMonitor, new ReadYourWritesTracker(5000));
+
+    // When
+
+    String node = currentNode(dataSource, true);
+
+    // Then
+
+    Assertions.assertEquals("primary", node);
+  }
+
+  @Test
+  void route_HappyPath_ReadYourWrites() {
+    // Given
+
+    ReplicaLagMonitor replicaLagMonitor =
+        new ReplicaLagMonitor(replicaDataSource, "SELECT 0", 1000);
+    replicaLagMonitor.check();
+
+    DataSource dataSource = routingDataSource(replicaLagMonitor, new ReadYourWritesTracker(5000));
+
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken("writer", null, List.of()));
+
+    String beforeWrite = currentNode(dataSource, true);
+    currentNode(dataSource, false);
+
+    // When
+
+    String afterWrite = currentNode(dataSource, true);
+
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken("reader", null, List.of()));
+
+    String otherUser = currentNode(dataSource, true);
+
+    // Then
+
+    Assertions.assertEquals("replica", beforeWrite);
+    Assertions.assertEquals("primary", afterWrite);
+    Assertions.assertEquals("replica", otherUser);
+  }
+
+  @Test
+  void route_HappyPath_StickinessExpired() throws InterruptedException {
+    // Given
+
+    ReplicaLagMonitor replicaLagMonitor =
+        new ReplicaLagMonitor(replicaDataSource, "SELECT 0", 1000);
+    replicaLagMonitor.check();
+
+    ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(10);
+    DataSource dataSource = routingDataSource(replicaLagMonitor, readYourWritesTracker);
+
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken("writer", null, List.of()));
+
+    currentNode(dataSource, false);
+
+    Thread.sleep(50);
+
+    // When
+
+    String node = currentNode(dataSource, true);
+
+    // Then
+
+    Assertions.assertEquals("replica", node);
+  }
+}
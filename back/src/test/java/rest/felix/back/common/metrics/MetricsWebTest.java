@@ -0,0 +1,99 @@
+package rest.felix.back.common.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import rest.felix.back.common.security.JwtTokenProvider;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.entity.UserGroup;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class MetricsWebTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private MockMvc mvc;
+  @Autowired private JwtTokenProvider jwtTokenProvider;
+
+  @Test
+  public void prometheus_HappyPath() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.OWNER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+    em.persist(userGroup);
+
+    for (String order : new String[] {"a", "b", "c"}) {
+      Todo todo = new Todo();
+      todo.setTitle("todo title");
+      todo.setDescription("todo description");
+      todo.setOrder(order);
+      todo.setAuthor(user);
+      todo.setGroup(group);
+      em.persist(todo);
+    }
+
+    em.flush();
+
+    Cookie cookie = new Cookie("accessToken", jwtTokenProvider.generateToken(user.getUsername()));
+
+    mvc.perform(
+            get(String.format("/api/v1/group/%d/todo", group.getId()))
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk());
+
+    // When
+
+    ResultActions result = mvc.perform(get("/actuator/prometheus"));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(
+        content()
+            .string(
+                containsString(
+                    "repository_method_seconds_bucket{exception=\"none\",method=\"getTodosInGroup\"")));
+    result.andExpect(
+        content()
+            .string(
+                containsString(
+                    "http_server_requests_queries_count{group_size=\"0-9\",method=\"GET\",uri=\"/api/v1/group/{groupId}/todo\"}")));
+    result.andExpect(content().string(containsString("group_size=\"0-9\"")));
+  }
+}
@@ -0,0 +1,163 @@
+package rest.felix.back.common.outbox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.todo.dto.CreateTodoDTO;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.UpdateTodoDTO;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.service.TodoService;
+import rest.felix.back.user.entity.User;
+
+@Transactional
+@SpringBootTest
+@RecordApplicationEvents
+class OutboxRelayTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private TodoService todoService;
+  @Autowired private OutboxRelay outboxRelay;
+  @Autowired private OutboxEventRepository outboxEventRepository;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private ApplicationEvents applicationEvents;
+
+  private long pendingEventCount() {
+    return em.createQuery("SELECT COUNT(o) FROM OutboxEvent o", Long.class).getSingleResult();
+  }
+
+  private int attemptsOf(OutboxEventType eventType) {
+    return em.createQuery(
+            "SELECT o.attempts FROM OutboxEvent o WHERE o.eventType = :eventType", Integer.class)
+        .setParameter("eventType", eventType)
+        .getSingleResult();
+  }
+
+  private OutboxRelay relayFailingOn(
+      OutboxEventType failingEventType, List<OutboxEventDTO> delivered) {
+    return new OutboxRelay(
+        outboxEventRepository,
+        outboxEventDTO -> {
+          if (outboxEventDTO.getEventType() == failingEventType) {
+            throw new IllegalStateException("sink unavailable");
+          }
+          delivered.add(outboxEventDTO);
+        },
+        transactionTemplate,
+        100,
+        2);
+  }
+
+  private TodoDTO createUpdateAndDeleteTodo() {
+    User user = new User();
+    user.setNickname("nickname");
+    user.setUsername("username");
+    user.setHashedPassword("hashedPassword");
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+    em.persist(group);
+
+    em.flush();
+
+    TodoDTO todoDTO =
+        todoService.createTodo(
+            new CreateTodoDTO(
+                "todo title", "todo description", "todo order", user.getId(), group.getId()));
+    todoService.updateTodo(
+        new UpdateTodoDTO(
+            todoDTO.getId(), "todo title", "todo description", "todo order", TodoStatus.DONE, null),
+        user.getId());
+    todoService.deleteTodo(todoDTO.getId(), user.getId());
+
+    return todoDTO;
+  }
+
+  @Test
+  void relayBatch_HappyPath() {
+    // Given
+
+    TodoDTO todoDTO = createUpdateAndDeleteTodo();
+
+    // When
+
+    int delivered = outboxRelay.relayBatch();
+
+    // Then
+
+    List<OutboxEventDTO> events = applicationEvents.stream(OutboxEventDTO.class).toList();
+
+    Assertions.assertEquals(3, delivered);
+    Assertions.assertEquals(
+        List.of(
+            OutboxEventType.TODO_CREATED,
+            OutboxEventType.TODO_UPDATED,
+            OutboxEventType.TODO_DELETED),
+        events.stream().map(OutboxEventDTO::getEventType).toList());
+    Assertions.assertTrue(
+        events.stream().allMatch(event -> event.getAggregateId() == todoDTO.getId()));
+    Assertions.assertTrue(events.get(1).getPayload().contains("\"status\":\"DONE\""));
+    Assertions.assertEquals(0, pendingEventCount());
+  }
+
+  @Test
+  void relayBatch_Failure_SinkThrows() {
+    // Given
+
+    createUpdateAndDeleteTodo();
+
+    List<OutboxEventDTO> delivered = new ArrayList<>();
+    OutboxRelay failingRelay = relayFailingOn(OutboxEventType.TODO_UPDATED, delivered);
+
+    // When
+
+    int deliveredCount = failingRelay.relayBatch();
+
+    // Then
+
+    Assertions.assertEquals(1, deliveredCount);
+    Assertions.assertEquals(
+        List.of(OutboxEventType.TODO_CREATED),
+        delivered.stream().map(OutboxEventDTO::getEventType).toList());
+    Assertions.assertEquals(2, pendingEventCount());
+    Assertions.assertEquals(1, attemptsOf(OutboxEventType.TODO_UPDATED));
+    Assertions.assertEquals(0, attemptsOf(OutboxEventType.TODO_DELETED));
+  }
+
+  @Test
+  void relayBatch_Failure_SkipsEventAfterMaxAttempts() {
+    // Given
+
+    createUpdateAndDeleteTodo();
+
+    List<OutboxEventDTO> delivered = new ArrayList<>();
+    OutboxRelay failingRelay = relayFailingOn(OutboxEventType.TODO_UPDATED, delivered);
+
+    failingRelay.relayBatch();
+    failingRelay.relayBatch();
+
+    // When
+
+    int deliveredCount = failingRelay.relayBatch();
+
+    // Then
+
+    Assertions.assertEquals(1, deliveredCount);
+    Assertions.assertEquals(
+        List.of(OutboxEventType.TODO_CREATED, OutboxEventType.TODO_DELETED),
+        delivered.stream().map(OutboxEventDTO::getEventType).toList());
+    Assertions.assertEquals(1, pendingEventCount());
+    Assertions.assertEquals(2, attemptsOf(OutboxEventType.TODO_UPDATED));
+  }
+}
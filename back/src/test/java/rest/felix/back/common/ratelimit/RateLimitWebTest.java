@@ -0,0 +1,100 @@
+package rest.felix.back.common.ratelimit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import rest.felix.back.user.dto.SignInRequestDTO;
+
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:ratelimit;MODE=PostgreSQL",
+      "rate-limit.enabled=true",
+      "rate-limit.rules[0].name=login",
+      "rate-limit.rules[0].methods=POST",
+      "rate-limit.rules[0].path=/api/v1/user/token/access-token",
+      "rate-limit.rules[0].key=ip",
+      "rate-limit.rules[0].capacity=3",
+      "rate-limit.rules[0].refill-per-second=0.01",
+      "rate-limit.rules[1].name=login-username",
+      "rate-limit.rules[1].key=user",
+      "rate-limit.rules[1].capacity=2",
+      "rate-limit.rules[1].refill-per-second=0.01"
+    })
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+public class RateLimitWebTest {
+
+  @Autowired private MockMvc mvc;
+  @Autowired private ObjectMapper objectMapper;
+
+  private ResultActions login(String remoteAddr, String username) throws Exception {
+    String body = objectMapper.writeValueAsString(new SignInRequestDTO(username, "password"));
+
+    return mvc.perform(
+        post("/api/v1/user/token/access-token")
+            .with(
+                request -> {
+                  request.setRemoteAddr(remoteAddr);
+                  return request;
+                })
+            .content(body)
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  public void login_Failure_TooManyRequestsFromIp() throws Exception {
+
+    // Given
+
+    for (String username : new String[] {"first", "second", "third"}) {
+      login("10.0.0.1", username).andExpect(status().isUnauthorized());
+    }
+
+    // When
+
+    ResultActions result = login("10.0.0.1", "fourth");
+
+    // Then
+
+    result.andExpect(status().isTooManyRequests());
+    result.andExpect(header().string("Retry-After", equalTo("100")));
+    result.andExpect(jsonPath("$.message", equalTo("Too many requests, please try again later.")));
+    login("10.0.0.2", "fourth").andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  public void login_Failure_TooManyRequestsForUsernameFromIp() throws Exception {
+
+    // Given
+
+    login("10.0.1.1", "target").andExpect(status().isUnauthorized());
+    login("10.0.1.1", "target").andExpect(status().isUnauthorized());
+
+    // When
+
+    ResultActions result = login("10.0.1.1", "target");
+
+    // Then
+
+    result.andExpect(status().isTooManyRequests());
+    result.andExpect(header().exists("Retry-After"));
+    login("10.0.1.2", "target").andExpect(status().isUnauthorized());
+  }
+}
@@ -0,0 +1,136 @@
+package rest.felix.back.common.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JwtKeyRingTest {
+
+  private static final String PRIVATE_KEY_1 =
+      "MIGHAgEAMBMGByqGSM49AgEGCCqGSM49AwEHBG0wawIBAQQg7JW/mCbszx++Lv1S214lSIWlXCHAiMYEnrZ3eeBCHeOhRANCAASCWtoLiUBE792oDjXO+EoUqq1J31BIcTxNfM1UJ7JUeHwZukJfH42ArgG7KrFGVNZlyL32EgKA0hq1BSc8u72i";
+  private static final String PUBLIC_KEY_1 =
+      "MFkwEwYHKoZIzj0CAQYIKoZIzj0DAQcDQgAEglraC4lARO/dqA41zvhKFKqtSd9QSHE8TXzNVCeyVHh8GbpCXx+NgK4BuyqxRlTWZci99hICgNIatQUnPLu9og==";
+  private static final String PRIVATE_KEY_2 =
+      "MIGHAgEAMBMGByqGSM49AgEGCCqGSM49AwEHBG0wawIBAQQgm1m32UqMtg0AptNzrJylizKpclY5Lm4sxRU1vSvOSkuhRANCAAQhtDBcfy22E2NRNiAT/6zPbi5JCVpDxU5hWTYXS1zTwqPtIXqeMIAtXtyHbUS8gd+njUuRkBzT96d9bNl+2+CQ";
+  private static final String PUBLIC_KEY_2 =
+      "MFkwEwYHKoZIzj0CAQYIKoZIzj0DAQcDQgAEIbQwXH8tthNjUTYgE/+sz24uSQlaQ8VOYVk2F0tc08Kj7SF6njCALV7ch21EvIHfp41LkZAc0/enfWzZftvgkA==";
+
+  private static final Instant ROTATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final JwtKeyRing jwtKeyRing =
+      new JwtKeyRing(
+          new JwtKeyRingProperties(
+              Duration.ofMinutes(30),
+              List.of(
+                  new JwtKeyRingProperties.Key("key-2", PRIVATE_KEY_2, PUBLIC_KEY_2, ROTATED_AT),
+                  new JwtKeyRingProperties.Key(
+                      "key-1", PRIVATE_KEY_1, PUBLIC_KEY_1, Instant.EPOCH))),
+          "");
+
+  @Test
+  void signingKey_HappyPath_RotatesAtActivation() {
+    // Given
+
+    Instant beforeRotation = ROTATED_AT.minusSeconds(1);
+
+    // When
+
+    JwtKeyRing.SigningKey before = jwtKeyRing.signingKey(beforeRotation);
+    JwtKeyRing.SigningKey after = jwtKeyRing.signingKey(ROTATED_AT);
+
+    // Then
+
+    Assertions.assertEquals("key-1", before.kid());
+    Assertions.assertEquals("key-2", after.kid());
+  }
+
+  @Test
+  void verifier_HappyPath_AcceptsPreviousKeyDuringOverlap() {
+    // Given
+
+    Instant withinOverlap = ROTATED_AT.plus(Duration.ofMinutes(29));
+    Instant afterOverlap = ROTATED_AT.plus(Duration.ofMinutes(30));
+
+    // When
+
+    boolean acceptedWithinOverlap = jwtKeyRing.verifier("key-1", withinOverlap).isPresent();
+    boolean acceptedAfterOverlap = jwtKeyRing.verifier("key-1", afterOverlap).isPresent();
+
+    // Then
+
+    Assertions.assertTrue(acceptedWithinOverlap);
+    Assertions.assertFalse(acceptedAfterOverlap);
+    Assertions.assertTrue(jwtKeyRing.verifier("key-2", afterOverlap).isPresent());
+    Assertions.assertTrue(jwtKeyRing.verifier("unknown", afterOverlap).isEmpty());
+  }
+
+  @Test
+  void jwks_HappyPath_PublishesAcceptedPublicKeys() {
+    // Given
+
+    Instant afterOverlap = ROTATED_AT.plus(Duration.ofHours(1));
+
+    // When
+
+    List<Map<String, String>> duringOverlap = jwtKeyRing.jwks(ROTATED_AT);
+    List<Map<String, String>> afterRetirement = jwtKeyRing.jwks(afterOverlap);
+
+    // Then
+
+    Assertions.assertEquals(2, duringOverlap.size());
+    Assertions.assertEquals(1, afterRetirement.size());
+
+    Map<String, String> jwk = afterRetirement.get(0);
+    Assertions.assertEquals("key-2", jwk.get("kid"));
+    Assertions.assertEquals("EC", jwk.get("kty"));
+    Assertions.assertEquals("P-256", jwk.get("crv"));
+    Assertions.assertEquals("ES256", jwk.get("alg"));
+    Assertions.assertFalse(jwk.containsKey("d"));
+  }
+
+  @Test
+  void constructor_HappyPath_SkipsUnsetKeys() {
+    // Given
+
+    JwtKeyRingProperties properties =
+        new JwtKeyRingProperties(
+            Duration.ofMinutes(30),
+            List.of(
+                new JwtKeyRingProperties.Key("es256-1", PRIVATE_KEY_1, PUBLIC_KEY_1, Instant.EPOCH),
+                new JwtKeyRingProperties.Key("es256-2", "", "", Instant.EPOCH)));
+
+    // When
+
+    JwtKeyRing keyRing = new JwtKeyRing(properties, "");
+
+    // Then
+
+    Assertions.assertEquals("es256-1", keyRing.signingKey(Instant.now()).kid());
+    Assertions.assertEquals(1, keyRing.jwks(Instant.now()).size());
+  }
+
+  @Test
+  void constructor_Failure_NoSigningKey() {
+    // Given
+
+    JwtKeyRingProperties unset =
+        new JwtKeyRingProperties(
+            Duration.ofMinutes(30),
+            List.of(new JwtKeyRingProperties.Key("es256-1", "", "", Instant.EPOCH)));
+
+    JwtKeyRingProperties publicKeyOnly =
+        new JwtKeyRingProperties(
+            Duration.ofMinutes(30),
+            List.of(new JwtKeyRingProperties.Key("es256-1", "", PUBLIC_KEY_1, Instant.EPOCH)));
+
+    // When
+
+    // Then
+
+    Assertions.assertThrows(IllegalStateException.class, () -> new JwtKeyRing(unset, ""));
+    Assertions.assertThrows(IllegalStateException.class, () -> new JwtKeyRing(publicKeyOnly, ""));
+  }
+}
@@ -1,8 +1,16 @@
 package rest.felix.back.common.security;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
@@ -10,6 +18,9 @@ class JwtTokenProviderTest {
 
   @Autowired private JwtTokenProvider jwtTokenProvider;
 
+  @Value("${jwt.access_token.secret_key}")
+  private String secretKey;
+
   @Test
   void generateParseValidate() {
     // Given
@@ -29,4 +40,72 @@ class JwtTokenProviderTest {
     Assertions.assertNotEquals(username, token);
     Assertions.assertEquals(username, jwtTokenProvider.getUsernameFromToken(token));
   }
+
+  @Test
+  void generateToken_HappyPath_SignsWithActiveKeyId() {
+    // Given
+
+    String token = jwtTokenProvider.generateToken("randomUsernameForTest");
+
+    // When
+
+    String header =
+        new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+
+    // Then
+
+    Assertions.assertTrue(header.contains("\"alg\":\"ES256\""));
+    Assertions.assertTrue(header.contains("\"kid\":\"test-2020-01\""));
+  }
+
+  @Test
+  void validateToken_Failure_RetiredLegacyKey() {
+    // Given
+
+    String token =
+        Jwts.builder()
+            .setSubject("randomUsernameForTest")
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(
+                Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)), SignatureAlgorithm.HS512)
+            .compact();
+
+    // When
+
+    boolean valid = jwtTokenProvider.validateToken(token);
+
+    // Then
+
+    Assertions.assertFalse(valid);
+  }
+
+  @Test
+  void parseToken_Failure_LegacyTokenWithoutId() {
+    // Given
+
+    JwtTokenProvider legacyTokenProvider =
+        new JwtTokenProvider(
+            new JwtKeyRing(new JwtKeyRingProperties(null, null), secretKey), 60_000);
+
+    String token =
+        Jwts.builder()
+            .setSubject("randomUsernameForTest")
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(
+                Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)), SignatureAlgorithm.HS512)
+            .compact();
+
+    // When
+
+    Optional<AccessTokenClaims> claims = legacyTokenProvider.parseToken(token);
+
+    // Then
+
+    Assertions.assertTrue(claims.isEmpty());
+    Assertions.assertFalse(legacyTokenProvider.validateToken(token));
+    Assertions.assertTrue(
+        legacyTokenProvider
+            .parseToken(legacyTokenProvider.generateToken("randomUsernameForTest"))
+            .isPresent());
+  }
 }
@@ -0,0 +1,159 @@
+package rest.felix.back.common.serialization;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import rest.felix.back.common.security.JwtTokenProvider;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.entity.UserGroup;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class SerializationWebTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private MockMvc mvc;
+  @Autowired private JwtTokenProvider jwtTokenProvider;
+
+  private Group group;
+  private Cookie cookie;
+
+  @BeforeEach
+  void setUp() {
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+    em.persist(user);
+
+    group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.OWNER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+    em.persist(userGroup);
+
+    for (String order : new String[] {"a", "b"}) {
+      Todo todo = new Todo();
+      todo.setTitle("todo title " + order);
+      todo.setDescription("todo description");
+      todo.setOrder(order);
+      todo.setAuthor(user);
+      todo.setGroup(group);
+      em.persist(todo);
+    }
+
+    em.flush();
+
+    cookie = new Cookie("accessToken", jwtTokenProvider.generateToken(user.getUsername()));
+  }
+
+  @Test
+  void getTodos_HappyPath_ColumnarJson() throws Exception {
+    // Given
+
+    String path = String.format("/api/v1/group/%d/todo", group.getId());
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            get(path).cookie(cookie).accept(ColumnarJsonHttpMessageConverter.COLUMNAR_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(content().contentType(ColumnarJsonHttpMessageConverter.COLUMNAR_JSON));
+    result.andExpect(jsonPath("$.columns[1]").value("title"));
+    result.andExpect(jsonPath("$.columns[4]").value("status"));
+    result.andExpect(jsonPath("$.rows.length()").value(2));
+    result.andExpect(jsonPath("$.rows[0][1]").value("todo title a"));
+    result.andExpect(jsonPath("$.rows[1][1]").value("todo title b"));
+    result.andExpect(jsonPath("$.rows[0][4]").value("TO_DO"));
+  }
+
+  @Test
+  void getUserGroups_HappyPath_ColumnarJson() throws Exception {
+    // Given
+
+    String path = "/api/v1/group";
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            get(path).cookie(cookie).accept(ColumnarJsonHttpMessageConverter.COLUMNAR_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.columns[0]").value("id"));
+    result.andExpect(jsonPath("$.columns[1]").value("name"));
+    result.andExpect(jsonPath("$.rows[0][1]").value("group name"));
+  }
+
+  @Test
+  void getTodos_HappyPath_Cbor() throws Exception {
+    // Given
+
+    String path = String.format("/api/v1/group/%d/todo", group.getId());
+    MediaType cbor = MediaType.parseMediaType("application/cbor");
+
+    // When
+
+    ResultActions result = mvc.perform(get(path).cookie(cookie).accept(cbor));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(content().contentType(cbor));
+
+    JsonNode body =
+        new CBORMapper().readTree(result.andReturn().getResponse().getContentAsByteArray());
+    Assertions.assertEquals(2, body.size());
+    Assertions.assertEquals("todo title a", body.get(0).get("title").asText());
+  }
+
+  @Test
+  void getTodos_HappyPath_DefaultsToJson() throws Exception {
+    // Given
+
+    String path = String.format("/api/v1/group/%d/todo", group.getId());
+
+    // When
+
+    ResultActions result = mvc.perform(get(path).cookie(cookie));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    result.andExpect(jsonPath("$[0].title").value("todo title a"));
+  }
+}
@@ -0,0 +1,60 @@
+package rest.felix.back.common.tracing;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import rest.felix.back.common.security.JwtTokenProvider;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class TracingWebTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private MockMvc mvc;
+  @Autowired private JwtTokenProvider jwtTokenProvider;
+
+  @Test
+  public void errorResponse_HasTraceId() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+    em.persist(user);
+    em.flush();
+
+    Cookie cookie = new Cookie("accessToken", jwtTokenProvider.generateToken(user.getUsername()));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(get("/api/v1/group/0").cookie(cookie).accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isForbidden());
+    result.andExpect(jsonPath("$.message", equalTo("No permission to perform this action.")));
+    result.andExpect(jsonPath("$.traceId", matchesPattern("[0-9a-f]{32}")));
+  }
+}
@@ -0,0 +1,41 @@
+package rest.felix.back.common.util;
+
+import jakarta.persistence.EntityManager;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.entity.UserGroup;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.user.entity.User;
+
+public class Fixtures {
+
+  public static User persistUser(EntityManager em, String username) {
+    User user = new User();
+    user.setUsername(username);
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+    em.persist(user);
+    return user;
+  }
+
+  public static Group persistGroup(EntityManager em) {
+    return persistGroup(em, "group name");
+  }
+
+  public static Group persistGroup(EntityManager em, String name) {
+    Group group = new Group();
+    group.setName(name);
+    group.setDescription("group description");
+    em.persist(group);
+    return group;
+  }
+
+  public static UserGroup persistUserGroup(
+      EntityManager em, User user, Group group, GroupRole groupRole) {
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(groupRole);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+    em.persist(userGroup);
+    return userGroup;
+  }
+}
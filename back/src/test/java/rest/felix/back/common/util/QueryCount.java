@@ -0,0 +1,16 @@
+package rest.felix.back.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.springframework.test.web.servlet.ResultMatcher;
+import rest.felix.back.common.metrics.RequestMetrics;
+
+public class QueryCount {
+
+  public static ResultMatcher queryCount(int expected) {
+    return result ->
+        Assertions.assertEquals(
+            expected,
+            RequestMetrics.queryStatistics(result.getRequest()).getCount(),
+            "SQL statements executed by the request");
+  }
+}
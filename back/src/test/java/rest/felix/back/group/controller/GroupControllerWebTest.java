@@ -7,13 +7,20 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static rest.felix.back.common.util.Fixtures.persistGroup;
+import static rest.felix.back.common.util.Fixtures.persistUser;
+import static rest.felix.back.common.util.Fixtures.persistUserGroup;
+import static rest.felix.back.common.util.QueryCount.queryCount;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import jakarta.transaction.Transactional;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -26,11 +33,19 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import rest.felix.back.common.security.JwtTokenProvider;
 import rest.felix.back.group.dto.CreateGroupRequestDTO;
+import rest.felix.back.group.dto.GroupMemberRequestDTO;
+import rest.felix.back.group.dto.RemoveGroupMembersRequestDTO;
+import rest.felix.back.group.dto.UpsertGroupMembersRequestDTO;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.todo.dto.CreateTodoDTO;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.UpdateTodoDTO;
+import rest.felix.back.todo.entity.GroupTodoStats;
 import rest.felix.back.todo.entity.Todo;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.service.TodoService;
 import rest.felix.back.user.entity.User;
 
 @SpringBootTest
@@ -43,11 +58,31 @@ public class GroupControllerWebTest {
   @Autowired private MockMvc mvc;
   @Autowired private ObjectMapper objectMapper;
   @Autowired private JwtTokenProvider jwtTokenProvider;
+  @Autowired private TodoService todoService;
 
   private Cookie userCookie(String username) {
     return new Cookie("accessToken", jwtTokenProvider.generateToken(username));
   }
 
+  private GroupRole groupRoleOf(String username, Group group) {
+    return em.createQuery(
+            """
+            SELECT
+              ug.groupRole
+            FROM
+              UserGroup ug
+            WHERE
+              ug.user.username = :username
+              AND ug.group.id = :groupId
+            """,
+            GroupRole.class)
+        .setParameter("username", username)
+        .setParameter("groupId", group.getId())
+        .getResultStream()
+        .findFirst()
+        .orElse(null);
+  }
+
   @Test
   public void createGroup_HappyPath() throws Exception {
 
@@ -80,6 +115,7 @@ public class GroupControllerWebTest {
     // Then
 
     result.andExpect(status().isCreated());
+    result.andExpect(queryCount(3));
     result.andExpect(jsonPath("$.id").isNotEmpty());
     result.andExpect(jsonPath("$.name").value("groupName"));
     result.andExpect(jsonPath("$.description").value("group description"));
@@ -222,6 +258,7 @@ public class GroupControllerWebTest {
     // Then
 
     result.andExpect(status().isOk());
+    result.andExpect(queryCount(2));
     result.andExpect(jsonPath("$", hasSize(3)));
     result.andExpect(jsonPath("$[*].id", everyItem(notNullValue())));
     result.andExpect(jsonPath("$[*].name", everyItem(equalTo("groupName"))));
@@ -277,6 +314,99 @@ public class GroupControllerWebTest {
     result.andExpect(status().isForbidden());
   }
 
+  @Test
+  public void getUserGroupTodoStats_HappyPath() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+    em.persist(group);
+
+    Group emptyGroup = new Group();
+    emptyGroup.setName("empty group name");
+    emptyGroup.setDescription("empty group description");
+    em.persist(emptyGroup);
+
+    for (Group g : List.of(group, emptyGroup)) {
+      UserGroup userGroup = new UserGroup();
+      userGroup.setGroupRole(GroupRole.OWNER);
+      userGroup.setUser(user);
+      userGroup.setGroup(g);
+      em.persist(userGroup);
+    }
+
+    em.flush();
+
+    List<TodoDTO> todoDTOs =
+        List.of("a", "b", "c").stream()
+            .map(
+                order ->
+                    todoService.createTodo(
+                        new CreateTodoDTO(
+                            "todo title", "todo description", order, user.getId(), group.getId())))
+            .toList();
+
+    todoService.updateTodo(
+        new UpdateTodoDTO(
+            todoDTOs.get(0).getId(), "todo title", "todo description", "a", TodoStatus.DONE, null),
+        user.getId());
+    todoService.deleteTodo(todoDTOs.get(1).getId(), user.getId());
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    String path = "/api/v1/group/stats";
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            get(path)
+                .cookie(cookie)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(queryCount(3));
+    result.andExpect(jsonPath("$", hasSize(2)));
+    result.andExpect(jsonPath("$[0].groupId", equalTo(group.getId().intValue())));
+    result.andExpect(jsonPath("$[0].toDoCount", equalTo(1)));
+    result.andExpect(jsonPath("$[0].inProgressCount", equalTo(0)));
+    result.andExpect(jsonPath("$[0].doneCount", equalTo(1)));
+    result.andExpect(jsonPath("$[0].onHoldCount", equalTo(0)));
+    result.andExpect(jsonPath("$[0].updatedAt", notNullValue()));
+    result.andExpect(jsonPath("$[1].groupId", equalTo(emptyGroup.getId().intValue())));
+    result.andExpect(jsonPath("$[1].toDoCount", equalTo(0)));
+    result.andExpect(jsonPath("$[1].doneCount", equalTo(0)));
+  }
+
+  @Test
+  public void getUserGroupTodoStats_Failure_NoCookie() throws Exception {
+
+    // Given
+
+    String path = "/api/v1/group/stats";
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            get(path).contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isForbidden());
+  }
+
   @Test
   public void getUserGroup_HappyPath() throws Exception {
 
@@ -317,6 +447,7 @@ public class GroupControllerWebTest {
     // Then
 
     result.andExpect(status().isOk());
+    result.andExpect(queryCount(3));
     result.andExpect(jsonPath("$.id", notNullValue()));
     result.andExpect(jsonPath("$.name", equalTo("group name")));
     result.andExpect(jsonPath("$.description", equalTo("group description")));
@@ -552,6 +683,7 @@ public class GroupControllerWebTest {
     // Then
 
     result.andExpect(status().isNoContent());
+    result.andExpect(queryCount(6));
 
     Assertions.assertTrue(
         em.createQuery(
@@ -790,4 +922,532 @@ public class GroupControllerWebTest {
     result.andExpect(status().isForbidden());
     result.andExpect(jsonPath("$.message", equalTo("No permission to perform this action.")));
   }
+
+  @Test
+  public void upsertGroupMembers_HappyPath() throws Exception {
+
+    // Given
+
+    User owner = persistUser(em, "owner123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, owner, group, GroupRole.OWNER);
+
+    User viewer = persistUser(em, "viewer123");
+    persistUserGroup(em, viewer, group, GroupRole.VIEWER);
+
+    List<GroupMemberRequestDTO> members = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      persistUser(em, "member" + i);
+      members.add(new GroupMemberRequestDTO("member" + i, GroupRole.MEMBER));
+    }
+    members.add(new GroupMemberRequestDTO("viewer123", GroupRole.MANAGER));
+    members.add(new GroupMemberRequestDTO("ghost123", GroupRole.MEMBER));
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body = objectMapper.writeValueAsString(new UpsertGroupMembersRequestDTO(members));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(userCookie(owner.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(queryCount(7));
+    result.andExpect(jsonPath("$.affectedCount", equalTo(501)));
+    result.andExpect(jsonPath("$.unknownUsernames", equalTo(List.of("ghost123"))));
+
+    em.clear();
+
+    Assertions.assertEquals(GroupRole.MANAGER, groupRoleOf("viewer123", group));
+    Assertions.assertEquals(GroupRole.MEMBER, groupRoleOf("member0", group));
+    Assertions.assertEquals(GroupRole.MEMBER, groupRoleOf("member499", group));
+    Assertions.assertEquals(GroupRole.OWNER, groupRoleOf("owner123", group));
+  }
+
+  @Test
+  public void upsertGroupMembers_HappyPath_OwnerIsNotDemoted() throws Exception {
+
+    // Given
+
+    User owner = persistUser(em, "owner123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, owner, group, GroupRole.OWNER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body =
+        objectMapper.writeValueAsString(
+            new UpsertGroupMembersRequestDTO(
+                List.of(new GroupMemberRequestDTO("owner123", GroupRole.VIEWER))));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(userCookie(owner.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.affectedCount", equalTo(0)));
+
+    em.clear();
+
+    Assertions.assertEquals(GroupRole.OWNER, groupRoleOf("owner123", group));
+  }
+
+  @Test
+  public void upsertGroupMembers_Failure_OwnerRole() throws Exception {
+
+    // Given
+
+    User owner = persistUser(em, "owner123");
+    persistUser(em, "member123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, owner, group, GroupRole.OWNER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body =
+        objectMapper.writeValueAsString(
+            new UpsertGroupMembersRequestDTO(
+                List.of(new GroupMemberRequestDTO("member123", GroupRole.OWNER))));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(userCookie(owner.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isBadRequest());
+    result.andExpect(
+        jsonPath("$.message", equalTo("The owner role cannot be assigned to members.")));
+    Assertions.assertNull(groupRoleOf("member123", group));
+  }
+
+  @Test
+  public void upsertGroupMembers_Failure_ManagerAssignsManager() throws Exception {
+
+    // Given
+
+    User manager = persistUser(em, "manager123");
+    persistUser(em, "member123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, manager, group, GroupRole.MANAGER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body =
+        objectMapper.writeValueAsString(
+            new UpsertGroupMembersRequestDTO(
+                List.of(new GroupMemberRequestDTO("member123", GroupRole.MANAGER))));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(userCookie(manager.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isForbidden());
+    result.andExpect(jsonPath("$.message", equalTo("No permission to perform this action.")));
+  }
+
+  @Test
+  public void upsertGroupMembers_Failure_ImproperGroupRole() throws Exception {
+
+    // Given
+
+    User member = persistUser(em, "member123");
+    persistUser(em, "other123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, member, group, GroupRole.MEMBER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body =
+        objectMapper.writeValueAsString(
+            new UpsertGroupMembersRequestDTO(
+                List.of(new GroupMemberRequestDTO("other123", GroupRole.VIEWER))));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(userCookie(member.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isForbidden());
+    Assertions.assertNull(groupRoleOf("other123", group));
+  }
+
+  @Test
+  public void upsertGroupMembers_Failure_InvalidArgument() throws Exception {
+
+    // Given
+
+    User owner = persistUser(em, "owner123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, owner, group, GroupRole.OWNER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body = objectMapper.writeValueAsString(new UpsertGroupMembersRequestDTO(List.of()));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(userCookie(owner.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isBadRequest());
+  }
+
+  @Test
+  public void removeGroupMembers_HappyPath() throws Exception {
+
+    // Given
+
+    User owner = persistUser(em, "owner123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, owner, group, GroupRole.OWNER);
+    persistUserGroup(em, persistUser(em, "member123"), group, GroupRole.MEMBER);
+    persistUserGroup(em, persistUser(em, "manager123"), group, GroupRole.MANAGER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body =
+        objectMapper.writeValueAsString(
+            new RemoveGroupMembersRequestDTO(
+                List.of("member123", "manager123", "owner123", "ghost123")));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            delete(path)
+                .cookie(userCookie(owner.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(queryCount(4));
+    result.andExpect(jsonPath("$.affectedCount", equalTo(2)));
+    result.andExpect(jsonPath("$.unknownUsernames", equalTo(List.of("ghost123"))));
+
+    em.clear();
+
+    Assertions.assertNull(groupRoleOf("member123", group));
+    Assertions.assertNull(groupRoleOf("manager123", group));
+    Assertions.assertEquals(GroupRole.OWNER, groupRoleOf("owner123", group));
+  }
+
+  @Test
+  public void removeGroupMembers_HappyPath_ManagerCannotRemoveManager() throws Exception {
+
+    // Given
+
+    User manager = persistUser(em, "manager123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, manager, group, GroupRole.MANAGER);
+    persistUserGroup(em, persistUser(em, "other123"), group, GroupRole.MANAGER);
+    persistUserGroup(em, persistUser(em, "viewer123"), group, GroupRole.VIEWER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body =
+        objectMapper.writeValueAsString(
+            new RemoveGroupMembersRequestDTO(List.of("other123", "viewer123")));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            delete(path)
+                .cookie(userCookie(manager.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.affectedCount", equalTo(1)));
+
+    em.clear();
+
+    Assertions.assertEquals(GroupRole.MANAGER, groupRoleOf("other123", group));
+    Assertions.assertNull(groupRoleOf("viewer123", group));
+  }
+
+  @Test
+  public void removeGroupMembers_Failure_ImproperGroupRole() throws Exception {
+
+    // Given
+
+    User viewer = persistUser(em, "viewer123");
+    Group group = persistGroup(em);
+    persistUserGroup(em, viewer, group, GroupRole.VIEWER);
+    persistUserGroup(em, persistUser(em, "member123"), group, GroupRole.MEMBER);
+
+    em.flush();
+
+    String path = String.format("/api/v1/group/%d/member", group.getId());
+    String body =
+        objectMapper.writeValueAsString(new RemoveGroupMembersRequestDTO(List.of("member123")));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            delete(path)
+                .cookie(userCookie(viewer.getUsername()))
+                .content(body)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isForbidden());
+    Assertions.assertEquals(GroupRole.MEMBER, groupRoleOf("member123", group));
+  }
+
+  @Test
+  public void getUserGroupPage_HappyPath_Name() throws Exception {
+
+    // Given
+
+    User user = persistUser(em, "username123");
+    for (String name : List.of("delta", "alpha", "echo", "charlie", "bravo")) {
+      persistUserGroup(em, user, persistGroup(em, name), GroupRole.MEMBER);
+    }
+    persistGroup(em, "not a member");
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions first =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "NAME")
+                .param("size", "2")
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+
+    String firstCursor =
+        objectMapper
+            .readTree(first.andReturn().getResponse().getContentAsString())
+            .get("nextCursor")
+            .asText();
+
+    ResultActions second =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "NAME")
+                .param("size", "2")
+                .param("cursor", firstCursor)
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+
+    String secondCursor =
+        objectMapper
+            .readTree(second.andReturn().getResponse().getContentAsString())
+            .get("nextCursor")
+            .asText();
+
+    ResultActions third =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "NAME")
+                .param("size", "2")
+                .param("cursor", secondCursor)
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    first.andExpect(status().isOk());
+    first.andExpect(queryCount(2));
+    first.andExpect(jsonPath("$.groups[*].name", equalTo(List.of("alpha", "bravo"))));
+    second.andExpect(jsonPath("$.groups[*].name", equalTo(List.of("charlie", "delta"))));
+    third.andExpect(jsonPath("$.groups[*].name", equalTo(List.of("echo"))));
+    third.andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  public void getUserGroupPage_HappyPath_LastActivity() throws Exception {
+
+    // Given
+
+    User user = persistUser(em, "username123");
+    Group quiet = persistGroup(em, "quiet");
+    Group busy = persistGroup(em, "busy");
+    Group busiest = persistGroup(em, "busiest");
+    for (Group group : List.of(quiet, busy, busiest)) {
+      persistUserGroup(em, user, group, GroupRole.MEMBER);
+    }
+
+    ZonedDateTime now = ZonedDateTime.now();
+    for (Group group : List.of(busy, busiest)) {
+      GroupTodoStats groupTodoStats = new GroupTodoStats();
+      groupTodoStats.setGroupId(group.getId());
+      groupTodoStats.setUpdatedAt(group == busiest ? now.plusDays(2) : now.plusDays(1));
+      em.persist(groupTodoStats);
+    }
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions first =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "LAST_ACTIVITY")
+                .param("size", "2")
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+
+    String cursor =
+        objectMapper
+            .readTree(first.andReturn().getResponse().getContentAsString())
+            .get("nextCursor")
+            .asText();
+
+    ResultActions second =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "LAST_ACTIVITY")
+                .param("size", "2")
+                .param("cursor", cursor)
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    first.andExpect(status().isOk());
+    first.andExpect(queryCount(2));
+    first.andExpect(jsonPath("$.groups[*].name", equalTo(List.of("busiest", "busy"))));
+    second.andExpect(jsonPath("$.groups[*].name", equalTo(List.of("quiet"))));
+    second.andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  public void getUserGroupPage_HappyPath_CreatedAtAscending() throws Exception {
+
+    // Given
+
+    User user = persistUser(em, "username123");
+    for (String name : List.of("first", "second", "third")) {
+      persistUserGroup(em, user, persistGroup(em, name), GroupRole.MEMBER);
+      em.flush();
+    }
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "CREATED_AT")
+                .param("direction", "ASC")
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.groups[*].name", equalTo(List.of("first", "second", "third"))));
+    result.andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  public void getUserGroupPage_Failure_InvalidParameters() throws Exception {
+
+    // Given
+
+    User user = persistUser(em, "username123");
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions invalidCursor =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "CREATED_AT")
+                .param("cursor", "bm90LWEtY3Vyc29y")
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+    ResultActions invalidSize =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("size", "0")
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+    ResultActions invalidSort =
+        mvc.perform(
+            get("/api/v1/group/page")
+                .param("sort", "POPULARITY")
+                .cookie(cookie)
+                .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    invalidCursor.andExpect(status().isBadRequest());
+    invalidSize.andExpect(status().isBadRequest());
+    invalidSort.andExpect(status().isBadRequest());
+  }
 }
@@ -404,7 +404,7 @@ class GroupServiceTest {
 
     // When
 
-    groupService.deleteGroupById(group.getId());
+    groupService.deleteGroupById(group.getId(), 1L);
 
     // Then
 
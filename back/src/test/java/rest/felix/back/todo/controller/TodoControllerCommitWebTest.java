@@ -0,0 +1,362 @@
+package rest.felix.back.todo.controller;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.common.security.JwtTokenProvider;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.entity.UserGroup;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.todo.dto.CreateTodoRequestDTO;
+import rest.felix.back.todo.dto.UpdateTodoRequestDTO;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.TodoIdempotencyKey;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.user.entity.User;
+
+/** Runs requests without a surrounding test transaction, so every write is really committed. */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:todocommit;MODE=PostgreSQL")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TodoControllerCommitWebTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private MockMvc mvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private JwtTokenProvider jwtTokenProvider;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private Cookie userCookie(String username) {
+    return new Cookie("accessToken", jwtTokenProvider.generateToken(username));
+  }
+
+  private Todo persistTodo(String username) {
+    return transactionTemplate.execute(
+        status -> {
+          User user = new User();
+          user.setUsername(username);
+          user.setNickname("nickname");
+          user.setHashedPassword("hashedPassword");
+
+          em.persist(user);
+
+          Group group = new Group();
+          group.setName("group name");
+          group.setDescription("group description");
+
+          em.persist(group);
+
+          UserGroup userGroup = new UserGroup();
+          userGroup.setGroupRole(GroupRole.MEMBER);
+          userGroup.setUser(user);
+          userGroup.setGroup(group);
+
+          em.persist(userGroup);
+
+          Todo todo = new Todo();
+          todo.setTitle("todo title");
+          todo.setDescription("todo description");
+          todo.setTodoStatus(TodoStatus.TO_DO);
+          todo.setOrder("todo order");
+          todo.setAuthor(user);
+          todo.setGroup(group);
+
+          em.persist(todo);
+
+          return todo;
+        });
+  }
+
+  private Todo findTodo(long todoId) {
+    return transactionTemplate.execute(status -> em.find(Todo.class, todoId));
+  }
+
+  @Test
+  void updateTodo_HappyPath_Committed() throws Exception {
+    // Given
+
+    Todo todo = persistTodo("committedUpdate");
+
+    UpdateTodoRequestDTO updateTodoRequestDTO =
+        new UpdateTodoRequestDTO(
+            "updated todo title", "updated todo description", TodoStatus.DONE, "todo order");
+
+    String path = String.format("/api/v1/group/%d/todo/%d", todo.getGroup().getId(), todo.getId());
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(userCookie("committedUpdate"))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTodoRequestDTO)));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.title", equalTo("updated todo title")));
+
+    Todo updatedTodo = findTodo(todo.getId());
+
+    Assertions.assertEquals("updated todo title", updatedTodo.getTitle());
+    Assertions.assertEquals(TodoStatus.DONE, updatedTodo.getTodoStatus());
+    Assertions.assertEquals(1L, updatedTodo.getVersion());
+    Assertions.assertTrue(updatedTodo.getChangeSeq() > todo.getChangeSeq());
+  }
+
+  @Test
+  void updateTodo_Failure_SameIfMatchTwice() throws Exception {
+    // Given
+
+    Todo todo = persistTodo("sameIfMatchTwice");
+
+    Cookie cookie = userCookie("sameIfMatchTwice");
+
+    String path = String.format("/api/v1/group/%d/todo/%d", todo.getGroup().getId(), todo.getId());
+
+    String firstBody =
+        objectMapper.writeValueAsString(
+            new UpdateTodoRequestDTO(
+                "first title", "first description", TodoStatus.IN_PROGRESS, "todo order"));
+
+    String secondBody =
+        objectMapper.writeValueAsString(
+            new UpdateTodoRequestDTO(
+                "second title", "second description", TodoStatus.DONE, "todo order"));
+
+    mvc.perform(
+            put(path)
+                .cookie(cookie)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(firstBody))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            put(path)
+                .cookie(cookie)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(secondBody));
+
+    // Then
+
+    result.andExpect(status().isPreconditionFailed());
+
+    Todo updatedTodo = findTodo(todo.getId());
+
+    Assertions.assertEquals("first title", updatedTodo.getTitle());
+    Assertions.assertEquals(TodoStatus.IN_PROGRESS, updatedTodo.getTodoStatus());
+    Assertions.assertEquals(1L, updatedTodo.getVersion());
+  }
+
+  @Test
+  void createTodo_HappyPath_RetryWhileFirstAttemptInFlight() throws Exception {
+    // Given
+
+    Todo todo = persistTodo("inFlightRetry");
+
+    CountDownLatch keyInserted = new CountDownLatch(1);
+
+    CompletableFuture<Void> firstAttempt =
+        CompletableFuture.runAsync(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    status -> {
+                      TodoIdempotencyKey todoIdempotencyKey = new TodoIdempotencyKey();
+                      todoIdempotencyKey.setUserId(todo.getAuthor().getId());
+                      todoIdempotencyKey.setIdempotencyKey("in-flight-key");
+                      todoIdempotencyKey.setTodoId(todo.getId());
+
+                      em.persist(todoIdempotencyKey);
+                      em.flush();
+
+                      keyInserted.countDown();
+
+                      try {
+                        Thread.sleep(500);
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                    }));
+
+    keyInserted.await();
+
+    CreateTodoRequestDTO createTodoRequestDTO =
+        new CreateTodoRequestDTO("todo title", "todo description", "retried todo order");
+
+    String path = String.format("/api/v1/group/%d/todo", todo.getGroup().getId());
+
+    // When
+
+    ResultActions result =
+        mvc.perform(
+            post(path)
+                .cookie(userCookie("inFlightRetry"))
+                .header("Idempotency-Key", "in-flight-key")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTodoRequestDTO)));
+
+    firstAttempt.get();
+
+    // Then
+
+    result.andExpect(status().isCreated());
+    result.andExpect(header().string("Idempotent-Replayed", "true"));
+    result.andExpect(jsonPath("$.id", equalTo(todo.getId().intValue())));
+
+    long todoCount =
+        transactionTemplate.execute(
+            status ->
+                em.createQuery(
+                        """
+                        SELECT
+                          COUNT(t)
+                        FROM
+                          Todo t
+                        WHERE
+                          t.group.id = :groupId
+                        """,
+                        Long.class)
+                    .setParameter("groupId", todo.getGroup().getId())
+                    .getSingleResult());
+
+    Assertions.assertEquals(1L, todoCount);
+  }
+
+  @Test
+  void createTodo_HappyPath_IdenticalConcurrentRetries() throws Exception {
+    // Given
+
+    Todo todo = persistTodo("concurrentRetry");
+
+    Cookie cookie = userCookie("concurrentRetry");
+
+    String path = String.format("/api/v1/group/%d/todo", todo.getGroup().getId());
+
+    String body =
+        objectMapper.writeValueAsString(
+            new CreateTodoRequestDTO("todo title", "todo description", "retried todo order"));
+
+    CountDownLatch groupLocked = new CountDownLatch(1);
+
+    CompletableFuture<Void> groupLock =
+        CompletableFuture.runAsync(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    status -> {
+                      em.createQuery(
+                              """
+                              UPDATE
+                                Group g
+                              SET
+                                g.changeSeq = g.changeSeq + 1
+                              WHERE
+                                g.id = :groupId
+                              """)
+                          .setParameter("groupId", todo.getGroup().getId())
+                          .executeUpdate();
+
+                      groupLocked.countDown();
+
+                      try {
+                        Thread.sleep(500);
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                    }));
+
+    groupLocked.await();
+
+    // When
+
+    List<CompletableFuture<MockHttpServletResponse>> attempts =
+        Stream.generate(
+                () ->
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                          try {
+                            return mvc.perform(
+                                    post(path)
+                                        .cookie(cookie)
+                                        .header("Idempotency-Key", "concurrent-key")
+                                        .accept(MediaType.APPLICATION_JSON)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                                .andReturn()
+                                .getResponse();
+                          } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                          }
+                        }))
+            .limit(2)
+            .toList();
+
+    groupLock.get();
+
+    List<MockHttpServletResponse> responses =
+        attempts.stream().map(CompletableFuture::join).toList();
+
+    // Then
+
+    Assertions.assertEquals(
+        List.of(201, 201), responses.stream().map(MockHttpServletResponse::getStatus).toList());
+    Assertions.assertEquals(
+        1L,
+        responses.stream()
+            .filter(response -> "true".equals(response.getHeader("Idempotent-Replayed")))
+            .count());
+    Assertions.assertEquals(
+        responses.get(0).getContentAsString(), responses.get(1).getContentAsString());
+
+    long todoCount =
+        transactionTemplate.execute(
+            status ->
+                em.createQuery(
+                        """
+                        SELECT
+                          COUNT(t)
+                        FROM
+                          Todo t
+                        WHERE
+                          t.group.id = :groupId
+                        """,
+                        Long.class)
+                    .setParameter("groupId", todo.getGroup().getId())
+                    .getSingleResult());
+
+    Assertions.assertEquals(2L, todoCount);
+  }
+}
@@ -321,7 +321,7 @@ public class TodoControllerUnitTest {
     // When
 
     ResponseEntity<TodoResponseDTO> responseEntity = todoController.createTodo(principal, group.getId(),
-        createTodoRequestDTO);
+        null, createTodoRequestDTO);
 
     // Then
 
@@ -370,7 +370,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), createTodoRequestDTO);
+    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), null, createTodoRequestDTO);
 
     // Then
 
@@ -414,7 +414,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), createTodoRequestDTO);
+    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), null, createTodoRequestDTO);
 
     // Then
 
@@ -458,7 +458,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), createTodoRequestDTO);
+    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), null, createTodoRequestDTO);
 
     // Then
 
@@ -501,7 +501,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), createTodoRequestDTO);
+    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), null, createTodoRequestDTO);
 
     // Then
 
@@ -552,7 +552,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), createTodoRequestDTO);
+    Runnable lambda = () -> todoController.createTodo(principal, group.getId(), null, createTodoRequestDTO);
 
     // Then
 
@@ -977,7 +977,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    ResponseEntity<TodoDTO> responseEntity = todoController.updateTodo(principal, group.getId(), todo.getId(),
+    ResponseEntity<TodoDTO> responseEntity = todoController.updateTodo(principal, group.getId(), todo.getId(), null,
         updateTodoRequestDTO);
 
     // Then
@@ -1067,7 +1067,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), updateTodoRequestDTO);
+    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), null, updateTodoRequestDTO);
 
     // Then
 
@@ -1124,7 +1124,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), updateTodoRequestDTO);
+    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), null, updateTodoRequestDTO);
 
     // Then
 
@@ -1177,7 +1177,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), updateTodoRequestDTO);
+    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), null, updateTodoRequestDTO);
 
     // Then
 
@@ -1236,7 +1236,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), updateTodoRequestDTO);
+    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), null, updateTodoRequestDTO);
 
     // Then
 
@@ -1295,7 +1295,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), updateTodoRequestDTO);
+    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), null, updateTodoRequestDTO);
 
     // Then
 
@@ -1352,7 +1352,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), updateTodoRequestDTO);
+    Runnable lambda = () -> todoController.updateTodo(principal, group.getId(), todo.getId(), null, updateTodoRequestDTO);
 
     // Then
 
@@ -1415,7 +1415,7 @@ public class TodoControllerUnitTest {
     // When
 
     Runnable lambda = () -> todoController.updateTodo(
-        principal, group.getId(), todo2.getId(), updateTodoRequestDTO);
+        principal, group.getId(), todo2.getId(), null, updateTodoRequestDTO);
 
     // Then
 
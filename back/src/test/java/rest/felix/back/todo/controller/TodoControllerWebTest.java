@@ -7,10 +7,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static rest.felix.back.common.util.QueryCount.queryCount;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import jakarta.transaction.Transactional;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -30,10 +34,15 @@ import rest.felix.back.common.util.Trio;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.todo.dto.CreateTodoDTO;
 import rest.felix.back.todo.dto.CreateTodoRequestDTO;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.TodoSyncTokenDTO;
+import rest.felix.back.todo.dto.UpdateTodoDTO;
 import rest.felix.back.todo.dto.UpdateTodoRequestDTO;
 import rest.felix.back.todo.entity.Todo;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.service.TodoService;
 import rest.felix.back.user.entity.User;
 
 @SpringBootTest
@@ -50,6 +59,8 @@ public class TodoControllerWebTest {
   private ObjectMapper objectMapper;
   @Autowired
   private JwtTokenProvider jwtTokenProvider;
+  @Autowired
+  private TodoService todoService;
 
   private Cookie userCookie(String username) {
     return new Cookie("accessToken", jwtTokenProvider.generateToken(username));
@@ -119,11 +130,14 @@ public class TodoControllerWebTest {
     // Then
 
     result.andExpect(status().isOk());
+    result.andExpect(queryCount(3));
     result.andExpect(jsonPath("$", hasSize(4)));
     result.andExpect(jsonPath("$[0].title", equalTo("todo 2")));
     result.andExpect(jsonPath("$[0].description", equalTo("todo 2 description")));
     result.andExpect(jsonPath("$[0].status", equalTo("IN_PROGRESS")));
     result.andExpect(jsonPath("$[0].order", equalTo("a")));
+    result.andExpect(jsonPath("$[0].authorUsername", equalTo("username123")));
+    result.andExpect(jsonPath("$[0].authorNickname", equalTo("nickname")));
     result.andExpect(jsonPath("$[1].title", equalTo("todo 3")));
     result.andExpect(jsonPath("$[1].description", equalTo("todo 3 description")));
     result.andExpect(jsonPath("$[1].status", equalTo("DONE")));
@@ -377,6 +391,7 @@ public class TodoControllerWebTest {
     // Then
 
     result.andExpect(status().isCreated());
+    result.andExpect(queryCount(9));
     result.andExpect(jsonPath("$.id", notNullValue()));
     result.andExpect(jsonPath("$.authorId", equalTo(user.getId().intValue())));
     result.andExpect(jsonPath("$.groupId", equalTo(group.getId().intValue())));
@@ -386,6 +401,176 @@ public class TodoControllerWebTest {
     result.andExpect(jsonPath("$.order", equalTo("todo order")));
   }
 
+  @Test
+  void createTodo_HappyPath_IdempotentRetry() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.OWNER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+
+    em.persist(userGroup);
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    CreateTodoRequestDTO createTodoRequestDTO = new CreateTodoRequestDTO("todo title", "todo description",
+        "todo order");
+
+    String body = objectMapper.writeValueAsString(createTodoRequestDTO);
+
+    String path = String.format("/api/v1/group/%d/todo", group.getId());
+
+    String createdTodo = mvc.perform(
+        post(path)
+            .cookie(cookie)
+            .header("Idempotency-Key", "retry-key")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(status().isCreated())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    int todoId = JsonPath.read(createdTodo, "$.id");
+
+    // When
+
+    ResultActions result = mvc.perform(
+        post(path)
+            .cookie(cookie)
+            .header("Idempotency-Key", "retry-key")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+
+    // Then
+
+    result.andExpect(status().isCreated());
+    result.andExpect(header().string("Idempotent-Replayed", "true"));
+    result.andExpect(jsonPath("$.id", equalTo(todoId)));
+    result.andExpect(jsonPath("$.title", equalTo("todo title")));
+
+    long todoCount = em.createQuery(
+        """
+            SELECT
+              COUNT(t)
+            FROM
+              Todo t
+            WHERE
+              t.group.id = :groupId
+            """,
+        Long.class)
+        .setParameter("groupId", group.getId())
+        .getSingleResult();
+
+    Assertions.assertEquals(1L, todoCount);
+  }
+
+  @Test
+  void createTodo_Failure_IdempotencyKeyReusedInOtherGroup() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group1 = new Group();
+    group1.setName("group name 1");
+    group1.setDescription("group description 1");
+
+    em.persist(group1);
+
+    Group group2 = new Group();
+    group2.setName("group name 2");
+    group2.setDescription("group description 2");
+
+    em.persist(group2);
+
+    UserGroup userGroup1 = new UserGroup();
+    userGroup1.setGroupRole(GroupRole.OWNER);
+    userGroup1.setUser(user);
+    userGroup1.setGroup(group1);
+
+    em.persist(userGroup1);
+
+    UserGroup userGroup2 = new UserGroup();
+    userGroup2.setGroupRole(GroupRole.OWNER);
+    userGroup2.setUser(user);
+    userGroup2.setGroup(group2);
+
+    em.persist(userGroup2);
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    CreateTodoRequestDTO createTodoRequestDTO = new CreateTodoRequestDTO("todo title", "todo description",
+        "todo order");
+
+    String body = objectMapper.writeValueAsString(createTodoRequestDTO);
+
+    mvc.perform(
+        post(String.format("/api/v1/group/%d/todo", group1.getId()))
+            .cookie(cookie)
+            .header("Idempotency-Key", "reused-key")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(status().isCreated());
+
+    // When
+
+    ResultActions result = mvc.perform(
+        post(String.format("/api/v1/group/%d/todo", group2.getId()))
+            .cookie(cookie)
+            .header("Idempotency-Key", "reused-key")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+
+    // Then
+
+    result.andExpect(status().isBadRequest());
+    result.andExpect(jsonPath("$.code", equalTo("IDEMPOTENCY_KEY_REUSED")));
+
+    long todoCount = em.createQuery(
+        """
+            SELECT
+              COUNT(t)
+            FROM
+              Todo t
+            WHERE
+              t.group.id = :groupId
+            """,
+        Long.class)
+        .setParameter("groupId", group2.getId())
+        .getSingleResult();
+
+    Assertions.assertEquals(0L, todoCount);
+  }
+
   @Test
   void createTodo_Failure_NoCookie() throws Exception {
 
@@ -710,7 +895,10 @@ public class TodoControllerWebTest {
     // Then
 
     result.andExpect(status().isBadRequest());
-    result.andExpect(jsonPath("$.message", equalTo("Bad Request, please try again later.")));
+    result.andExpect(jsonPath(
+        "$.message",
+        equalTo("Another todo already has this order, please reload the board.")));
+    result.andExpect(jsonPath("$.code", equalTo("ORDER_CONFLICT")));
   }
 
   @Test
@@ -764,6 +952,7 @@ public class TodoControllerWebTest {
     // Then
 
     result.andExpect(status().isNoContent());
+    result.andExpect(queryCount(12));
 
     Assertions.assertTrue(
         em.createQuery(
@@ -1201,6 +1390,7 @@ public class TodoControllerWebTest {
     // Then
 
     result.andExpect(status().isOk());
+    result.andExpect(queryCount(11));
     result.andExpect(jsonPath("$.id", equalTo(todo.getId().intValue())));
     result.andExpect(jsonPath("$.title", equalTo("updated todo title")));
     result.andExpect(jsonPath("$.description", equalTo("updated todo description")));
@@ -1693,6 +1883,647 @@ public class TodoControllerWebTest {
     // Then
 
     result.andExpect(status().isBadRequest());
-    result.andExpect(jsonPath("$.message", equalTo("Bad Request, please try again later.")));
+    result.andExpect(jsonPath(
+        "$.message",
+        equalTo("Another todo already has this order, please reload the board.")));
+    result.andExpect(jsonPath("$.code", equalTo("ORDER_CONFLICT")));
+  }
+
+  @Test
+  void updateTodo_HappyPath_IfMatch() throws Exception {
+    // Given
+
+    User user = new User();
+    user.setUsername("username");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group");
+    group.setDescription("description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+    userGroup.setGroupRole(GroupRole.MEMBER);
+
+    em.persist(userGroup);
+
+    Todo todo = new Todo();
+    todo.setTodoStatus(TodoStatus.IN_PROGRESS);
+    todo.setTitle("todo title");
+    todo.setDescription("todo description");
+    todo.setOrder("todo order");
+    todo.setAuthor(user);
+    todo.setGroup(group);
+
+    em.persist(todo);
+
+    em.flush();
+
+    UpdateTodoRequestDTO updateTodoRequestDTO = new UpdateTodoRequestDTO(
+        "updated todo title", "updated todo description", TodoStatus.DONE, "todo order");
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    String path = String.format("/api/v1/group/%d/todo/%d", group.getId(), todo.getId());
+
+    String body = objectMapper.writeValueAsString(updateTodoRequestDTO);
+
+    // When
+
+    ResultActions result = mvc.perform(
+        put(path)
+            .cookie(cookie)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    result.andExpect(jsonPath("$.version", equalTo(1)));
+    result.andExpect(jsonPath("$.title", equalTo("updated todo title")));
+  }
+
+  @Test
+  void updateTodo_Failure_StaleIfMatch() throws Exception {
+    // Given
+
+    User user = new User();
+    user.setUsername("username");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group");
+    group.setDescription("description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+    userGroup.setGroupRole(GroupRole.MEMBER);
+
+    em.persist(userGroup);
+
+    Todo todo = new Todo();
+    todo.setTodoStatus(TodoStatus.IN_PROGRESS);
+    todo.setTitle("todo title");
+    todo.setDescription("todo description");
+    todo.setOrder("todo order");
+    todo.setAuthor(user);
+    todo.setGroup(group);
+
+    em.persist(todo);
+
+    em.flush();
+
+    UpdateTodoRequestDTO updateTodoRequestDTO = new UpdateTodoRequestDTO(
+        "updated todo title", "updated todo description", TodoStatus.DONE, "todo order");
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    String path = String.format("/api/v1/group/%d/todo/%d", group.getId(), todo.getId());
+
+    String body = objectMapper.writeValueAsString(updateTodoRequestDTO);
+
+    // When
+
+    ResultActions result = mvc.perform(
+        put(path)
+            .cookie(cookie)
+            .header(HttpHeaders.IF_MATCH, "\"3\"")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+
+    // Then
+
+    result.andExpect(status().isPreconditionFailed());
+    result.andExpect(jsonPath(
+        "$.message",
+        equalTo("The todo has been modified by someone else, please reload it.")));
+
+    em.clear();
+
+    Todo unchangedTodo = em.find(Todo.class, todo.getId());
+
+    Assertions.assertEquals("todo title", unchangedTodo.getTitle());
+    Assertions.assertEquals(0L, unchangedTodo.getVersion());
+  }
+
+  @Test
+  void searchTodos_HappyPath() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    Group otherGroup = new Group();
+    otherGroup.setName("other group name");
+    otherGroup.setDescription("other group description");
+
+    em.persist(otherGroup);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.MEMBER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+
+    em.persist(userGroup);
+
+    List<Trio<Group, String, String>> list = Arrays.asList(
+        new Trio<>(group, "Buy milk", "from the market"),
+        new Trio<>(group, "Write report", "about MILK prices"),
+        new Trio<>(group, "Walk the dog", "before dinner"),
+        new Trio<>(otherGroup, "Milk the cow", "not a member of this group"));
+
+    list.forEach(
+        trio -> {
+          Todo todo = new Todo();
+          todo.setTitle(trio.second());
+          todo.setDescription(trio.third());
+          todo.setAuthor(user);
+          todo.setGroup(trio.first());
+          todo.setOrder(trio.second());
+          em.persist(todo);
+        });
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions result = mvc.perform(
+        get("/api/v1/todo/search")
+            .param("query", "milk")
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(queryCount(2));
+    result.andExpect(jsonPath("$", hasSize(2)));
+    result.andExpect(jsonPath("$[0].title", equalTo("Write report")));
+    result.andExpect(jsonPath("$[0].authorNickname", equalTo("nickname")));
+    result.andExpect(jsonPath("$[1].title", equalTo("Buy milk")));
+  }
+
+  @Test
+  void searchTodos_HappyPath_Paginated() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.MEMBER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+
+    em.persist(userGroup);
+
+    Arrays.stream(new int[] { 1, 2, 3 })
+        .forEach(
+            idx -> {
+              Todo todo = new Todo();
+              todo.setTitle(String.format("todo %d", idx));
+              todo.setDescription(String.format("todo %d description", idx));
+              todo.setAuthor(user);
+              todo.setGroup(group);
+              todo.setOrder(String.format("todo order %d", idx));
+              em.persist(todo);
+            });
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions result = mvc.perform(
+        get("/api/v1/todo/search")
+            .param("query", "todo")
+            .param("page", "1")
+            .param("size", "2")
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$", hasSize(1)));
+    result.andExpect(jsonPath("$[0].title", equalTo("todo 1")));
+  }
+
+  @Test
+  void searchTodos_Failure_BlankQuery() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions result = mvc.perform(
+        get("/api/v1/todo/search")
+            .param("query", " ")
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void getMyTodos_HappyPath() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    User otherUser = new User();
+    otherUser.setUsername("username456");
+    otherUser.setNickname("other nickname");
+    otherUser.setHashedPassword("hashedPassword");
+
+    em.persist(otherUser);
+
+    List<Group> groups = Arrays.asList(new Group(), new Group(), new Group());
+
+    groups.forEach(
+        group -> {
+          group.setName("group name");
+          group.setDescription("group description");
+          em.persist(group);
+        });
+
+    groups.subList(0, 2).forEach(
+        group -> {
+          UserGroup userGroup = new UserGroup();
+          userGroup.setGroupRole(GroupRole.MEMBER);
+          userGroup.setUser(user);
+          userGroup.setGroup(group);
+          em.persist(userGroup);
+        });
+
+    List<Trio<Group, User, TodoStatus>> list = Arrays.asList(
+        new Trio<>(groups.get(0), user, TodoStatus.TO_DO),
+        new Trio<>(groups.get(0), otherUser, TodoStatus.DONE),
+        new Trio<>(groups.get(1), user, TodoStatus.DONE),
+        new Trio<>(groups.get(1), otherUser, TodoStatus.TO_DO),
+        new Trio<>(groups.get(2), user, TodoStatus.TO_DO));
+
+    for (int idx = 0; idx < list.size(); idx++) {
+      Trio<Group, User, TodoStatus> trio = list.get(idx);
+
+      Todo todo = new Todo();
+      todo.setTitle(String.format("todo %d", idx));
+      todo.setDescription(String.format("todo %d description", idx));
+      todo.setTodoStatus(trio.third());
+      todo.setAuthor(trio.second());
+      todo.setGroup(trio.first());
+      todo.setOrder(String.format("todo order %d", idx));
+      em.persist(todo);
+    }
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions result = mvc.perform(
+        get("/api/v1/user/me/todos")
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(queryCount(3));
+    result.andExpect(jsonPath("$.todos", hasSize(4)));
+    result.andExpect(jsonPath("$.todos[0].title", equalTo("todo 3")));
+    result.andExpect(jsonPath("$.todos[0].authorNickname", equalTo("other nickname")));
+    result.andExpect(jsonPath("$.todos[1].title", equalTo("todo 2")));
+    result.andExpect(jsonPath("$.todos[2].title", equalTo("todo 1")));
+    result.andExpect(jsonPath("$.todos[3].title", equalTo("todo 0")));
+    result.andExpect(jsonPath("$.todos[3].authorNickname", equalTo("nickname")));
+    result.andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void getMyTodos_HappyPath_FilteredAndPaginated() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.MEMBER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+
+    em.persist(userGroup);
+
+    List<TodoStatus> statuses = Arrays.asList(
+        TodoStatus.DONE, TodoStatus.TO_DO, TodoStatus.DONE, TodoStatus.DONE);
+
+    for (int idx = 0; idx < statuses.size(); idx++) {
+      Todo todo = new Todo();
+      todo.setTitle(String.format("todo %d", idx));
+      todo.setDescription(String.format("todo %d description", idx));
+      todo.setTodoStatus(statuses.get(idx));
+      todo.setAuthor(user);
+      todo.setGroup(group);
+      todo.setOrder(String.format("todo order %d", idx));
+      em.persist(todo);
+    }
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions firstPage = mvc.perform(
+        get("/api/v1/user/me/todos")
+            .param("status", "DONE")
+            .param("authorId", user.getId().toString())
+            .param("size", "2")
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON));
+
+    Number nextCursor = JsonPath.read(
+        firstPage.andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+    ResultActions secondPage = mvc.perform(
+        get("/api/v1/user/me/todos")
+            .param("status", "DONE")
+            .param("authorId", user.getId().toString())
+            .param("size", "2")
+            .param("cursor", nextCursor.toString())
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    firstPage.andExpect(status().isOk());
+    firstPage.andExpect(jsonPath("$.todos", hasSize(2)));
+    firstPage.andExpect(jsonPath("$.todos[0].title", equalTo("todo 3")));
+    firstPage.andExpect(jsonPath("$.todos[1].title", equalTo("todo 2")));
+    firstPage.andExpect(jsonPath("$.nextCursor", notNullValue()));
+
+    secondPage.andExpect(status().isOk());
+    secondPage.andExpect(jsonPath("$.todos", hasSize(1)));
+    secondPage.andExpect(jsonPath("$.todos[0].title", equalTo("todo 0")));
+    secondPage.andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void getTodoChanges_HappyPath() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.MEMBER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+
+    em.persist(userGroup);
+
+    TodoDTO unchangedTodo = todoService.createTodo(
+        new CreateTodoDTO("todo 0", "todo 0 description", "a", user.getId(), group.getId()));
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+    String path = String.format("/api/v1/group/%d/todo/changes", group.getId());
+
+    ResultActions initialSync = mvc.perform(
+        get(path)
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON));
+
+    String syncToken = JsonPath.read(
+        initialSync.andReturn().getResponse().getContentAsString(), "$.syncToken");
+
+    TodoDTO updatedTodo = todoService.createTodo(
+        new CreateTodoDTO("todo 1", "todo 1 description", "b", user.getId(), group.getId()));
+    TodoDTO deletedTodo = todoService.createTodo(
+        new CreateTodoDTO("todo 2", "todo 2 description", "c", user.getId(), group.getId()));
+
+    todoService.updateTodo(
+        new UpdateTodoDTO(updatedTodo.getId(), "todo 1", "todo 1 description", "b", TodoStatus.DONE, null),
+        user.getId());
+    todoService.deleteTodo(deletedTodo.getId(), user.getId());
+
+    // When
+
+    ResultActions result = mvc.perform(
+        get(path)
+            .param("since", syncToken)
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON));
+
+    String nextSyncToken = JsonPath.read(
+        result.andReturn().getResponse().getContentAsString(), "$.syncToken");
+
+    ResultActions nextResult = mvc.perform(
+        get(path)
+            .param("since", nextSyncToken)
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    initialSync.andExpect(status().isOk());
+    initialSync.andExpect(jsonPath("$.fullResync", equalTo(true)));
+    initialSync.andExpect(jsonPath("$.todos", hasSize(1)));
+    initialSync.andExpect(jsonPath("$.todos[0].id", equalTo((int) unchangedTodo.getId())));
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.fullResync", equalTo(false)));
+    result.andExpect(jsonPath("$.todos", hasSize(1)));
+    result.andExpect(jsonPath("$.todos[0].id", equalTo((int) updatedTodo.getId())));
+    result.andExpect(jsonPath("$.todos[0].status", equalTo("DONE")));
+    result.andExpect(jsonPath("$.deletedTodoIds", hasSize(1)));
+    result.andExpect(jsonPath("$.deletedTodoIds[0]", equalTo((int) deletedTodo.getId())));
+    result.andExpect(queryCount(5));
+
+    nextResult.andExpect(status().isOk());
+    nextResult.andExpect(jsonPath("$.fullResync", equalTo(false)));
+    nextResult.andExpect(jsonPath("$.todos", hasSize(0)));
+    nextResult.andExpect(jsonPath("$.deletedTodoIds", hasSize(0)));
+  }
+
+  @Test
+  void getTodoChanges_HappyPath_ExpiredToken() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.VIEWER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+
+    em.persist(userGroup);
+
+    todoService.createTodo(
+        new CreateTodoDTO("todo 0", "todo 0 description", "a", user.getId(), group.getId()));
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+    String expiredToken = new TodoSyncTokenDTO(group.getId(), 0L, 0L).encode();
+
+    // When
+
+    ResultActions result = mvc.perform(
+        get(String.format("/api/v1/group/%d/todo/changes", group.getId()))
+            .param("since", expiredToken)
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(jsonPath("$.fullResync", equalTo(true)));
+    result.andExpect(jsonPath("$.todos", hasSize(1)));
+    result.andExpect(jsonPath("$.deletedTodoIds", hasSize(0)));
+  }
+
+  @Test
+  void getTodoChanges_Failure_MalformedToken() throws Exception {
+
+    // Given
+
+    User user = new User();
+    user.setUsername("username123");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    UserGroup userGroup = new UserGroup();
+    userGroup.setGroupRole(GroupRole.MEMBER);
+    userGroup.setUser(user);
+    userGroup.setGroup(group);
+
+    em.persist(userGroup);
+
+    em.flush();
+
+    Cookie cookie = userCookie(user.getUsername());
+
+    // When
+
+    ResultActions result = mvc.perform(
+        get(String.format("/api/v1/group/%d/todo/changes", group.getId()))
+            .param("since", "not-a-token")
+            .cookie(cookie)
+            .accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isBadRequest());
   }
 }
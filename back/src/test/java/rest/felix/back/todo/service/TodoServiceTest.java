@@ -12,11 +12,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import rest.felix.back.common.exception.throwable.notfound.ResourceNotFoundException;
+import rest.felix.back.common.exception.throwable.preconditionfailed.TodoVersionMismatchException;
 import rest.felix.back.common.util.Pair;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.todo.dto.CreateTodoDTO;
 import rest.felix.back.todo.dto.TodoDTO;
 import rest.felix.back.todo.dto.UpdateTodoDTO;
+import rest.felix.back.todo.entity.GroupTodoStats;
 import rest.felix.back.todo.entity.Todo;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.user.entity.User;
@@ -526,7 +528,7 @@ class TodoServiceTest {
 
     // When
 
-    todoService.deleteTodo(todo.getId());
+    todoService.deleteTodo(todo.getId(), user.getId());
 
     // Then
 
@@ -583,7 +585,7 @@ class TodoServiceTest {
 
     // When
 
-    Runnable lambda = () -> todoService.deleteTodo(todo.getId());
+    Runnable lambda = () -> todoService.deleteTodo(todo.getId(), user.getId());
 
     // Then
 
@@ -624,11 +626,12 @@ class TodoServiceTest {
         "todo updated title",
         "todo updated description",
         "todo updated order",
-        TodoStatus.DONE);
+        TodoStatus.DONE,
+        null);
 
     // When
 
-    TodoDTO todoDTO = todoService.updateTodo(updateTodoDTO);
+    TodoDTO todoDTO = todoService.updateTodo(updateTodoDTO, user.getId());
 
     // Then
 
@@ -661,6 +664,69 @@ class TodoServiceTest {
     Assertions.assertEquals(TodoStatus.DONE, updatedTodo.getTodoStatus());
   }
 
+  @Test
+  void updateTodo_HappyPath_SeedsMissingStats() {
+    // Given
+
+    User user = new User();
+    user.setUsername("username");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    Todo todo1 = new Todo();
+    todo1.setTitle("todo title 1");
+    todo1.setDescription("todo description 1");
+    todo1.setTodoStatus(TodoStatus.IN_PROGRESS);
+    todo1.setOrder("todo order 1");
+    todo1.setAuthor(user);
+    todo1.setGroup(group);
+
+    em.persist(todo1);
+
+    Todo todo2 = new Todo();
+    todo2.setTitle("todo title 2");
+    todo2.setDescription("todo description 2");
+    todo2.setTodoStatus(TodoStatus.TO_DO);
+    todo2.setOrder("todo order 2");
+    todo2.setAuthor(user);
+    todo2.setGroup(group);
+
+    em.persist(todo2);
+
+    em.flush();
+
+    UpdateTodoDTO updateTodoDTO = new UpdateTodoDTO(
+        todo1.getId(),
+        "todo title 1",
+        "todo description 1",
+        "todo order 1",
+        TodoStatus.DONE,
+        null);
+
+    // When
+
+    todoService.updateTodo(updateTodoDTO, user.getId());
+
+    // Then
+
+    em.clear();
+
+    GroupTodoStats groupTodoStats = em.find(GroupTodoStats.class, group.getId());
+
+    Assertions.assertEquals(1L, groupTodoStats.getToDoCount());
+    Assertions.assertEquals(0L, groupTodoStats.getInProgressCount());
+    Assertions.assertEquals(1L, groupTodoStats.getDoneCount());
+    Assertions.assertEquals(0L, groupTodoStats.getOnHoldCount());
+  }
+
   @Test
   void updateTodo_Failure_NoTodo() {
     // Given
@@ -699,11 +765,12 @@ class TodoServiceTest {
         "updated todo title",
         "updated todo description",
         "someOrder",
-        TodoStatus.DONE);
+        TodoStatus.DONE,
+        null);
 
     // When
 
-    Runnable lambda = () -> todoService.updateTodo(updateTodoDTO);
+    Runnable lambda = () -> todoService.updateTodo(updateTodoDTO, user.getId());
 
     // Then
 
@@ -753,14 +820,73 @@ class TodoServiceTest {
         "updated todo title",
         "updated todo description",
         "todo1 order",
-        TodoStatus.IN_PROGRESS);
+        TodoStatus.IN_PROGRESS,
+        null);
 
     // When
 
-    Runnable lambda = () -> todoService.updateTodo(updateTodoDTO);
+    Runnable lambda = () -> todoService.updateTodo(updateTodoDTO, user.getId());
 
     // Then
 
     Assertions.assertThrows(DataIntegrityViolationException.class, lambda::run);
   }
+
+  @Test
+  void updateTodo_Failure_ConcurrentModification() {
+    // Given
+
+    User user = new User();
+    user.setUsername("username");
+    user.setNickname("nickname");
+    user.setHashedPassword("hashedPassword");
+
+    em.persist(user);
+
+    Group group = new Group();
+    group.setName("group name");
+    group.setDescription("group description");
+
+    em.persist(group);
+
+    Todo todo = new Todo();
+    todo.setTitle("todo title");
+    todo.setDescription("todo description");
+    todo.setTodoStatus(TodoStatus.IN_PROGRESS);
+    todo.setOrder("todo order");
+    todo.setAuthor(user);
+    todo.setGroup(group);
+
+    em.persist(todo);
+
+    em.flush();
+
+    em.createNativeQuery(
+        """
+            UPDATE
+              "todo"
+            SET
+              "version" = "version" + 1
+            WHERE
+              "id" = :todoId
+            """)
+        .setParameter("todoId", todo.getId())
+        .executeUpdate();
+
+    UpdateTodoDTO updateTodoDTO = new UpdateTodoDTO(
+        todo.getId(),
+        "todo updated title",
+        "todo updated description",
+        "todo updated order",
+        TodoStatus.DONE,
+        null);
+
+    // When
+
+    Runnable lambda = () -> todoService.updateTodo(updateTodoDTO, user.getId());
+
+    // Then
+
+    Assertions.assertThrows(TodoVersionMismatchException.class, lambda::run);
+  }
 }
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ActiveProfiles;
 import rest.felix.back.common.exception.throwable.badrequest.ConfirmPasswordMismatchException;
 import rest.felix.back.common.exception.throwable.badrequest.UsernameTakenException;
@@ -106,7 +107,8 @@ class UserControllerUnitTest {
 
     // When
 
-    ResponseEntity<UserResponseDTO> response = userController.createAccessToken(signInRequestDTO);
+    ResponseEntity<UserResponseDTO> response =
+        userController.createAccessToken(new MockHttpServletRequest(), signInRequestDTO);
 
     // Then
 
@@ -136,7 +138,7 @@ class UserControllerUnitTest {
     Assertions.assertThrows(
         NoMatchingUserException.class,
         () -> {
-          userController.createAccessToken(signInRequestDTO);
+          userController.createAccessToken(new MockHttpServletRequest(), signInRequestDTO);
         });
   }
 
@@ -158,7 +160,7 @@ class UserControllerUnitTest {
     Assertions.assertThrows(
         NoMatchingUserException.class,
         () -> {
-          userController.createAccessToken(signInRequestDTO);
+          userController.createAccessToken(new MockHttpServletRequest(), signInRequestDTO);
         });
   }
 
@@ -168,7 +170,7 @@ class UserControllerUnitTest {
 
     // When
 
-    ResponseEntity response = userController.logOutUser();
+    ResponseEntity response = userController.logOutUser(null, null);
 
     // Then
 
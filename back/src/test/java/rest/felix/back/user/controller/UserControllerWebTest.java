@@ -4,8 +4,10 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static rest.felix.back.common.util.QueryCount.queryCount;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
@@ -63,6 +65,7 @@ public class UserControllerWebTest {
     // Then
 
     result.andExpect(status().isCreated());
+    result.andExpect(queryCount(1));
     result.andExpect(jsonPath("$.id").isNotEmpty());
     result.andExpect(jsonPath("$.username").value("LongEnoughUsername"));
     result.andExpect(jsonPath("$.nickname").value("nickname"));
@@ -217,6 +220,7 @@ public class UserControllerWebTest {
 
     result.andExpect(status().isBadRequest());
     result.andExpect(jsonPath("$.message").value("해당 username은 이미 사용 중입니다."));
+    result.andExpect(jsonPath("$.code").value("USERNAME_TAKEN"));
   }
 
   @Test
@@ -250,7 +254,11 @@ public class UserControllerWebTest {
     // Then
 
     result.andExpect(status().isCreated());
+    result.andExpect(queryCount(2));
     result.andExpect(cookie().exists("accessToken"));
+    result.andExpect(cookie().exists("refreshToken"));
+    result.andExpect(cookie().httpOnly("refreshToken", true));
+    result.andExpect(cookie().path("refreshToken", "/api/v1/user/token"));
 
     MockHttpServletResponse response = result.andReturn().getResponse();
     Cookie accessTokenCookie = response.getCookie("accessToken");
@@ -369,6 +377,121 @@ public class UserControllerWebTest {
     result.andExpect(status().isForbidden());
   }
 
+  @Test
+  void logOutUser_HappyPath_RevokesTokens() throws Exception {
+    // Given
+
+    MockHttpServletResponse signInResponse = signUpAndSignIn("username123");
+    Cookie accessTokenCookie = signInResponse.getCookie("accessToken");
+    Cookie refreshTokenCookie = signInResponse.getCookie("refreshToken");
+
+    mvc.perform(delete("/api/v1/user/token").cookie(accessTokenCookie, refreshTokenCookie));
+
+    // When
+
+    ResultActions meResult = mvc.perform(get("/api/v1/user/me").cookie(accessTokenCookie));
+    ResultActions refreshResult =
+        mvc.perform(post("/api/v1/user/token/refresh").cookie(refreshTokenCookie));
+
+    // Then
+
+    meResult.andExpect(status().isUnauthorized());
+    refreshResult.andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void refreshAccessToken_HappyPath() throws Exception {
+    // Given
+
+    MockHttpServletResponse signInResponse = signUpAndSignIn("username123");
+    Cookie refreshTokenCookie = signInResponse.getCookie("refreshToken");
+
+    String path = "/api/v1/user/token/refresh";
+
+    // When
+
+    ResultActions result = mvc.perform(post(path).cookie(refreshTokenCookie));
+
+    // Then
+
+    result.andExpect(status().isCreated());
+    result.andExpect(jsonPath("$.username").value("username123"));
+    result.andExpect(cookie().exists("accessToken"));
+    result.andExpect(cookie().exists("refreshToken"));
+
+    MockHttpServletResponse response = result.andReturn().getResponse();
+    Assertions.assertEquals(
+        "username123",
+        jwtTokenProvider.getUsernameFromToken(response.getCookie("accessToken").getValue()));
+    Assertions.assertNotEquals(
+        refreshTokenCookie.getValue(), response.getCookie("refreshToken").getValue());
+  }
+
+  @Test
+  void refreshAccessToken_Failure_ReusedToken() throws Exception {
+    // Given
+
+    MockHttpServletResponse signInResponse = signUpAndSignIn("username123");
+    Cookie refreshTokenCookie = signInResponse.getCookie("refreshToken");
+
+    String path = "/api/v1/user/token/refresh";
+
+    Cookie rotatedRefreshTokenCookie =
+        mvc.perform(post(path).cookie(refreshTokenCookie))
+            .andReturn()
+            .getResponse()
+            .getCookie("refreshToken");
+
+    // When
+
+    ResultActions reuseResult = mvc.perform(post(path).cookie(refreshTokenCookie));
+    ResultActions rotatedResult = mvc.perform(post(path).cookie(rotatedRefreshTokenCookie));
+
+    // Then
+
+    reuseResult.andExpect(status().isUnauthorized());
+    reuseResult.andExpect(jsonPath("$.message").value("Refresh token is invalid or expired."));
+    rotatedResult.andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void refreshAccessToken_Failure_NoCookie() throws Exception {
+    // Given
+
+    String path = "/api/v1/user/token/refresh";
+
+    // When
+
+    ResultActions result = mvc.perform(post(path));
+
+    // Then
+
+    result.andExpect(status().isUnauthorized());
+    result.andExpect(jsonPath("$.message").value("Refresh token is invalid or expired."));
+  }
+
+  @Test
+  void getJsonWebKeySet_HappyPath() throws Exception {
+    // Given
+
+    String path = "/api/v1/user/token/jwks";
+
+    // When
+
+    ResultActions result = mvc.perform(get(path).accept(MediaType.APPLICATION_JSON));
+
+    // Then
+
+    result.andExpect(status().isOk());
+    result.andExpect(queryCount(0));
+    result.andExpect(header().string("Cache-Control", "max-age=300, public"));
+    result.andExpect(jsonPath("$.keys.length()").value(1));
+    result.andExpect(jsonPath("$.keys[0].kid").value("test-2020-01"));
+    result.andExpect(jsonPath("$.keys[0].alg").value("ES256"));
+    result.andExpect(jsonPath("$.keys[0].x").isString());
+    result.andExpect(jsonPath("$.keys[0].y").isString());
+  }
+
   @Test
   void currentUserInfo_HappyPath() throws Exception {
     // Given
@@ -399,6 +522,7 @@ public class UserControllerWebTest {
     // Then
 
     result.andExpect(status().isOk());
+    result.andExpect(queryCount(1));
     result.andExpect(jsonPath("$.id").isNotEmpty());
     result.andExpect(jsonPath("$.username").value("username123"));
     result.andExpect(jsonPath("$.nickname").value("nickname"));
@@ -420,4 +544,25 @@ public class UserControllerWebTest {
 
     result.andExpect(status().isUnauthorized());
   }
+
+  private MockHttpServletResponse signUpAndSignIn(String username) throws Exception {
+    SignupRequestDTO signupRequestDTO =
+        new SignupRequestDTO(username, "nickname", "password123412341234", "password123412341234");
+
+    mvc.perform(
+        post("/api/v1/user")
+            .content(objectMapper.writeValueAsString(signupRequestDTO))
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON));
+
+    SignInRequestDTO signInRequestDTO = new SignInRequestDTO(username, "password123412341234");
+
+    return mvc.perform(
+            post("/api/v1/user/token/access-token")
+                .content(objectMapper.writeValueAsString(signInRequestDTO))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+        .andReturn()
+        .getResponse();
+  }
 }
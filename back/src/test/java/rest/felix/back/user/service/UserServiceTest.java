@@ -2,18 +2,19 @@ package rest.felix.back.user.service;
 
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import rest.felix.back.common.exception.throwable.badrequest.ConfirmPasswordMismatchException;
 import rest.felix.back.common.exception.throwable.badrequest.UsernameTakenException;
 import rest.felix.back.user.dto.SignupDTO;
 import rest.felix.back.user.dto.SignupRequestDTO;
 import rest.felix.back.user.dto.UserDTO;
+import rest.felix.back.user.dto.UserSummaryDTO;
 import rest.felix.back.user.entity.User;
 import rest.felix.back.user.repository.UserRepository;
 
@@ -61,10 +62,9 @@ class UserServiceTest {
     // Then
 
     Assertions.assertThrows(
-        DataIntegrityViolationException.class,
+        UsernameTakenException.class,
         () -> {
           userService.signup(duplicatedUsernameSignupDTO);
-          em.flush();
         });
   }
 
@@ -85,30 +85,6 @@ class UserServiceTest {
         });
   }
 
-  @Test
-  void validateSignupRequestDTO_UsernameTaken() {
-    // Given
-
-    User user = new User();
-    user.setUsername("username");
-    user.setHashedPassword("hashedPassword");
-    user.setNickname("nickname");
-    em.persist(user);
-
-    // When
-
-    SignupRequestDTO signupRequestDTO =
-        new SignupRequestDTO("username", "nickname", "password", "password");
-
-    // Then
-
-    Assertions.assertThrows(
-        UsernameTakenException.class,
-        () -> {
-          userService.validateSignupRequestDTO(signupRequestDTO);
-        });
-  }
-
   @Test
   void validateSignupRequestDTO_PasswordMismatch() {
     // Given
@@ -162,4 +138,55 @@ class UserServiceTest {
 
     Assertions.assertTrue(userDTO.isEmpty());
   }
+
+  @Test
+  void getSummariesByIds_HappyPath() {
+    // Given
+
+    List<User> users =
+        List.of(1, 2, 3).stream()
+            .map(
+                idx -> {
+                  User user = new User();
+                  user.setUsername(String.format("username%d", idx));
+                  user.setNickname(String.format("nickname%d", idx));
+                  user.setHashedPassword("password");
+                  userRepository.save(user);
+                  return user;
+                })
+            .toList();
+    em.flush();
+
+    // When
+
+    List<UserSummaryDTO> userSummaryDTOs =
+        userService.getSummariesByIds(List.of(users.get(0).getId(), users.get(2).getId()));
+
+    // Then
+
+    Assertions.assertEquals(2, userSummaryDTOs.size());
+    Assertions.assertTrue(
+        userSummaryDTOs.stream()
+            .map(UserSummaryDTO::getNickname)
+            .toList()
+            .containsAll(List.of("nickname1", "nickname3")));
+    Assertions.assertTrue(
+        userSummaryDTOs.stream()
+            .map(UserSummaryDTO::getUsername)
+            .toList()
+            .containsAll(List.of("username1", "username3")));
+  }
+
+  @Test
+  void getSummariesByIds_HappyPath_NoIds() {
+    // Given
+
+    // When
+
+    List<UserSummaryDTO> userSummaryDTOs = userService.getSummariesByIds(List.of());
+
+    // Then
+
+    Assertions.assertTrue(userSummaryDTOs.isEmpty());
+  }
 }
@@ -40,6 +40,9 @@ export default function TodoCard({ todo, onDelete }: TodoCardProps) {
       <div className="ml-2 flex-1 min-w-0">
         <h3 className="font-medium truncate">{todo.title}</h3>
         <p className="text-sm text-gray-600 mt-1">{todo.description}</p>
+        {todo.authorNickname && (
+          <p className="text-xs text-gray-400 mt-1">{todo.authorNickname}</p>
+        )}
       </div>
       <div className="flex flex-col self-stretch">
         <button
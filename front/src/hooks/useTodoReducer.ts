@@ -24,6 +24,36 @@ function todoReducer(state: TodoState, action: TodoAction): TodoState {
         previousState: state.todos,
       };
 
+    case "APPLY_CHANGES": {
+      if (action.payload.fullResync) {
+        return {
+          ...state,
+          todos: action.payload.todos,
+          loading: false,
+          previousState: state.todos,
+        };
+      }
+
+      const changed = new Map(
+        action.payload.todos.map((todo) => [todo.id, todo] as const)
+      );
+      const deleted = new Set(action.payload.deletedTodoIds);
+      const todos = state.todos
+        .filter((todo) => !deleted.has(todo.id))
+        .map((todo) => changed.get(todo.id) ?? todo);
+      const existing = new Set(todos.map((todo) => todo.id));
+
+      return {
+        ...state,
+        todos: [
+          ...todos,
+          ...action.payload.todos.filter((todo) => !existing.has(todo.id)),
+        ],
+        loading: false,
+        previousState: state.todos,
+      };
+    }
+
     case "ADD_TODO":
       return {
         ...state,
@@ -1,4 +1,4 @@
-import { useEffect, useMemo } from "react";
+import { useEffect, useMemo, useRef } from "react";
 import { useTodoReducer } from "./useTodoReducer";
 import { todoApi } from "../services/todoApi";
 import { generateOrderedString } from "../util/order";
@@ -8,6 +8,7 @@ import type { TodoStatus } from "../type/TodoStatus";
 
 export function useTodos(group: GroupInterface) {
   const [state, dispatch] = useTodoReducer();
+  const syncToken = useRef<string | undefined>(undefined);
 
   // Memoized sorted todos by status
   const todosByStatus = useMemo(() => {
@@ -24,12 +25,23 @@ export function useTodos(group: GroupInterface) {
     };
   }, [state.todos]);
 
-  // Load todos on mount
+  // Load todos on mount, then fetch only what changed on window focus
   useEffect(() => {
-    todoApi
-      .getTodos(group.id)
-      .then((todos) => dispatch({ type: "SET_TODOS", payload: todos }))
-      .catch(console.error);
+    syncToken.current = undefined;
+
+    const sync = () =>
+      todoApi
+        .getTodoChanges(group.id, syncToken.current)
+        .then((changes) => {
+          syncToken.current = changes.syncToken;
+          dispatch({ type: "APPLY_CHANGES", payload: changes });
+        })
+        .catch(console.error);
+
+    sync();
+    window.addEventListener("focus", sync);
+
+    return () => window.removeEventListener("focus", sync);
   }, [group.id, dispatch]);
 
   // Actions
@@ -12,6 +12,12 @@ export const authApi = {
       .then((res) => res.data);
   },
 
+  refresh: (): Promise<UserInterface> => {
+    return axios
+      .post<UserInterface>("/api/v1/user/token/refresh")
+      .then((res) => res.data);
+  },
+
   signUp: (data: SignUpRequestDTO): Promise<UserInterface> => {
     return axios
       .post<UserInterface>("/api/v1/user", data)
@@ -1,11 +1,40 @@
 import axios from "axios";
-import { CreateGroupRequestDTO, GroupInterface } from "../type/Group.interface";
+import {
+  CreateGroupRequestDTO,
+  GroupInterface,
+  GroupMemberInterface,
+  GroupMembersResultInterface,
+  GroupSort,
+  GroupTodoStatsInterface,
+} from "../type/Group.interface";
 
 export const groupApi = {
   getGroups: () => {
     return axios.get<GroupInterface[]>("/api/v1/group").then((res) => res.data);
   },
 
+  getGroupPage: (
+    params: {
+      sort?: GroupSort;
+      direction?: "ASC" | "DESC";
+      cursor?: string;
+      size?: number;
+    } = {}
+  ) => {
+    return axios
+      .get<{ groups: GroupInterface[]; nextCursor: string | null }>(
+        "/api/v1/group/page",
+        { params }
+      )
+      .then((res) => res.data);
+  },
+
+  getGroupTodoStats: () => {
+    return axios
+      .get<GroupTodoStatsInterface[]>("/api/v1/group/stats")
+      .then((res) => res.data);
+  },
+
   createGroup: (data: CreateGroupRequestDTO) => {
     return axios
       .post<GroupInterface>("/api/v1/group", data)
@@ -21,4 +50,20 @@ export const groupApi = {
       .get<GroupInterface>(`/api/v1/group/${groupId}`)
       .then((res) => res.data);
   },
+
+  upsertMembers: (groupId: number, members: GroupMemberInterface[]) => {
+    return axios
+      .put<GroupMembersResultInterface>(`/api/v1/group/${groupId}/member`, {
+        members,
+      })
+      .then((res) => res.data);
+  },
+
+  removeMembers: (groupId: number, usernames: string[]) => {
+    return axios
+      .delete<GroupMembersResultInterface>(`/api/v1/group/${groupId}/member`, {
+        data: { usernames },
+      })
+      .then((res) => res.data);
+  },
 };
@@ -1,22 +1,73 @@
 import axios from "axios";
 import type {
   CreateTodoRequestDTO,
+  TodoChangesInterface,
   TodoInterface,
 } from "../type/Todo.interface";
+import type { TodoStatus } from "../type/TodoStatus";
+import {
+  COLUMNAR_JSON,
+  fromColumnar,
+  type ColumnarResponse,
+} from "../util/columnar";
 
 export const todoApi = {
   getTodos: (groupId: number): Promise<TodoInterface[]> => {
     return axios
-      .get<TodoInterface[]>(`/api/v1/group/${groupId}/todo`)
+      .get<ColumnarResponse>(`/api/v1/group/${groupId}/todo`, {
+        headers: { Accept: COLUMNAR_JSON },
+      })
+      .then((res) => fromColumnar<TodoInterface>(res.data));
+  },
+
+  getTodoChanges: (
+    groupId: number,
+    since?: string
+  ): Promise<TodoChangesInterface> => {
+    return axios
+      .get<TodoChangesInterface>(`/api/v1/group/${groupId}/todo/changes`, {
+        params: { since },
+      })
+      .then((res) => res.data);
+  },
+
+  getMyTodos: (
+    params: {
+      status?: TodoStatus;
+      authorId?: number;
+      cursor?: number;
+      size?: number;
+    } = {}
+  ): Promise<{ todos: TodoInterface[]; nextCursor: number | null }> => {
+    return axios
+      .get<{ todos: TodoInterface[]; nextCursor: number | null }>(
+        `/api/v1/user/me/todos`,
+        { params }
+      )
+      .then((res) => res.data);
+  },
+
+  searchTodos: (
+    query: string,
+    page = 0,
+    size = 20
+  ): Promise<TodoInterface[]> => {
+    return axios
+      .get<TodoInterface[]>(`/api/v1/todo/search`, {
+        params: { query, page, size },
+      })
       .then((res) => res.data);
   },
 
   createTodo: (
     todo: CreateTodoRequestDTO,
-    groupId: number
+    groupId: number,
+    idempotencyKey: string = crypto.randomUUID()
   ): Promise<TodoInterface> => {
     return axios
-      .post<TodoInterface>(`/api/v1/group/${groupId}/todo`, todo)
+      .post<TodoInterface>(`/api/v1/group/${groupId}/todo`, todo, {
+        headers: { "Idempotency-Key": idempotencyKey },
+      })
       .then((res) => res.data);
   },
 
@@ -26,7 +77,9 @@ export const todoApi = {
     todo: TodoInterface
   ): Promise<TodoInterface> => {
     return axios
-      .put<TodoInterface>(`/api/v1/group/${groupId}/todo/${todoId}`, todo)
+      .put<TodoInterface>(`/api/v1/group/${groupId}/todo/${todoId}`, todo, {
+        headers: { "If-Match": `"${todo.version}"` },
+      })
       .then((res) => res.data);
   },
 
@@ -1,3 +1,13 @@
+export type ErrorCode =
+  | "ORDER_CONFLICT"
+  | "USERNAME_TAKEN"
+  | "ALREADY_GROUP_MEMBER"
+  | "IDEMPOTENCY_KEY_IN_USE"
+  | "IDEMPOTENCY_KEY_REUSED"
+  | "REFERENCE_NOT_FOUND"
+  | "CONSTRAINT_VIOLATION";
+
 export interface ErrorInterface {
   message: string;
+  code?: ErrorCode | null;
 }
@@ -5,3 +5,26 @@ export interface GroupInterface {
 }
 
 export type CreateGroupRequestDTO = Omit<GroupInterface, "id">;
+
+export interface GroupTodoStatsInterface {
+  groupId: number;
+  toDoCount: number;
+  inProgressCount: number;
+  doneCount: number;
+  onHoldCount: number;
+  updatedAt: string | null;
+}
+
+export type GroupRole = "OWNER" | "MANAGER" | "MEMBER" | "VIEWER";
+
+export interface GroupMemberInterface {
+  username: string;
+  groupRole: Exclude<GroupRole, "OWNER">;
+}
+
+export interface GroupMembersResultInterface {
+  affectedCount: number;
+  unknownUsernames: string[];
+}
+
+export type GroupSort = "NAME" | "CREATED_AT" | "LAST_ACTIVITY";
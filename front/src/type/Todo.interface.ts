@@ -6,8 +6,18 @@ export interface TodoInterface {
   description: string;
   status: TodoStatus;
   authorId: number;
+  authorUsername?: string | null;
+  authorNickname?: string | null;
   groupId: number;
   order: string;
+  version: number;
+}
+
+export interface TodoChangesInterface {
+  todos: TodoInterface[];
+  deletedTodoIds: number[];
+  syncToken: string;
+  fullResync: boolean;
 }
 
 export type CreateTodoRequestDTO = Pick<
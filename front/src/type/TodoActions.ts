@@ -1,8 +1,9 @@
-import { TodoInterface } from "./Todo.interface";
+import { TodoChangesInterface, TodoInterface } from "./Todo.interface";
 import { TodoStatus } from "./TodoStatus";
 
 export type TodoAction =
   | { type: "SET_TODOS"; payload: TodoInterface[] }
+  | { type: "APPLY_CHANGES"; payload: TodoChangesInterface }
   | { type: "ADD_TODO"; payload: TodoInterface }
   | { type: "DELETE_TODO"; payload: { id: number } }
   | { type: "UPDATE_TODO"; payload: TodoInterface }
@@ -0,0 +1,12 @@
+export const COLUMNAR_JSON = "application/vnd.felix.columnar";
+
+export interface ColumnarResponse {
+  columns: string[];
+  rows: unknown[][];
+}
+
+export const fromColumnar = <T>({ columns, rows }: ColumnarResponse): T[] =>
+  rows.map(
+    (row) =>
+      Object.fromEntries(columns.map((column, i) => [column, row[i]])) as T
+  );
@@ -0,0 +1,35 @@
+import axios, { type InternalAxiosRequestConfig } from "axios";
+import { authApi } from "../services/authApi";
+
+const TOKEN_PATH = "/api/v1/user/token";
+
+let refreshing: Promise<unknown> | null = null;
+
+export const registerRefreshOnExpiry = () => {
+  axios.interceptors.response.use(undefined, async (err) => {
+    const config = err.config as
+      | (InternalAxiosRequestConfig & { _retried?: boolean })
+      | undefined;
+    const status = err.response?.status;
+
+    if (
+      !config ||
+      config._retried ||
+      config.url?.startsWith(TOKEN_PATH) ||
+      (status !== 401 && status !== 403)
+    )
+      return Promise.reject(err);
+
+    config._retried = true;
+    refreshing ??= authApi.refresh().finally(() => {
+      refreshing = null;
+    });
+
+    try {
+      await refreshing;
+    } catch {
+      return Promise.reject(err);
+    }
+    return axios(config);
+  });
+};